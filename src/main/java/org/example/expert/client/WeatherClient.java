@@ -1,62 +1,379 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.config.CircuitBreaker;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+/**
+ * 날씨 데이터는 하루에 한 번 바뀌므로, 전체 목록을 날짜(MM-dd)별 Map 으로 메모리에 들고 있다가 그대로 꺼내 쓴다.
+ * <p>
+ * 처음 조회할 때 한 번 불러오고, 이후에는 스케줄에 따라 ETag / Last-Modified 를 붙인 조건부 GET 으로 갱신한다.
+ * 304 면 가진 데이터를 그대로 쓰고, 갱신에 실패해도 마지막으로 불러온 데이터를 계속 사용한다.
+ * <p>
+ * 날씨 API 는 커넥션 풀과 타임아웃을 둔 HTTP 클라이언트로 호출하고, 끊긴 유휴 커넥션 외에는 재시도하지 않는다.
+ * 연속으로 실패하면 서킷 브레이커가 잠시 호출을 멈추며, 그동안 오늘 날씨는 마지막으로 응답한 값으로 대신한다.
+ * 다만 날짜가 바뀌었다면 어제 날씨를 오늘 날씨로 저장하지 않도록 대신하지 않고 실패한다.
+ * <p>
+ * 재시작 직후처럼 데이터가 없을 때 여러 요청이 한꺼번에 들어와도 날씨 API 는 한 번만 호출한다.
+ * 호출은 전용 스레드 하나에서만 하고, 이미 진행 중인 호출이 있다면 그 CompletableFuture 를 함께 기다린다.
+ * 기다리는 시간은 HTTP 호출 한 번에 걸릴 수 있는 최대 시간(커넥션 대기 + 연결 + 읽기 타임아웃)으로 제한한다.
+ */
+@Slf4j(topic = "WeatherClient")
 @Component
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final CloseableHttpClient httpClient;
     private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+    private final Duration waitTimeout;
+    private final CircuitBreaker circuitBreaker;
+    private final ExecutorService fetchExecutor;
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+
+    private volatile Snapshot snapshot;
+    private volatile KnownWeather lastKnownWeather; // 마지막으로 응답한 오늘 날씨와 그 날짜
+    private final Supplier<LocalDate> today;
+
+    private final Timer okTimer;
+    private final Timer notModifiedTimer;
+    private final Timer errorTimer;
+    private final Counter rejectedCounter;
+    private final Counter fallbackCounter;
+    private final Counter coalescedCounter;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    @Autowired
+    public WeatherClient(RestTemplateBuilder builder, WeatherClientProperties properties, MeterRegistry meterRegistry) {
+        this(builder, properties, meterRegistry, LocalDate::now);
+    }
+
+    WeatherClient(RestTemplateBuilder builder, WeatherClientProperties properties, MeterRegistry meterRegistry, Supplier<LocalDate> today) {
+        this.today = today;
+        this.httpClient = createHttpClient(properties);
+        this.restTemplate = builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        this.weatherApiUri = buildWeatherApiUri(properties.getBaseUrl());
+        this.waitTimeout = properties.getConnectionRequestTimeout()
+                .plus(properties.getConnectTimeout())
+                .plus(properties.getReadTimeout());
+        this.circuitBreaker = new CircuitBreaker(
+                properties.getCircuitBreaker().getFailureThreshold(),
+                properties.getCircuitBreaker().getOpenDuration()
+        );
+        this.fetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "weather-fetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.okTimer = upstreamTimer(meterRegistry, "ok");
+        this.notModifiedTimer = upstreamTimer(meterRegistry, "not_modified");
+        this.errorTimer = upstreamTimer(meterRegistry, "error");
+        this.rejectedCounter = meterRegistry.counter("weather.circuit.rejected");
+        this.fallbackCounter = meterRegistry.counter("weather.fallback");
+        this.coalescedCounter = meterRegistry.counter("weather.coalesced");
+        // 0: CLOSED, 1: OPEN, 2: HALF_OPEN
+        Gauge.builder("weather.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .register(meterRegistry);
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        return join(getTodayWeatherAsync());
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
+    // 날씨 API 를 호출하지 못하면 오늘 마지막으로 응답한 날씨를 대신 돌려준다.
+    public CompletableFuture<String> getTodayWeatherAsync() {
+        LocalDate date = today.get();
+        return bounded(currentSnapshot()).handle((current, throwable) -> {
+            if (throwable != null) {
+                return fallback(date, toServerException(throwable));
+            }
+
+            String weather = current.weatherByDate().get(date.format(DATE_FORMATTER));
+            if (weather == null) {
+                return fallback(date, new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다."));
+            }
+            lastKnownWeather = new KnownWeather(date, weather);
+            return weather;
+        });
+    }
+
+    public String getWeather(LocalDate date) {
+        String weather = join(bounded(currentSnapshot())).weatherByDate().get(date.format(DATE_FORMATTER));
+        if (weather == null) {
+            throw new ServerException(date.format(DATE_FORMATTER) + " 에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    // 매일 자정이 지난 뒤 갱신한다. 바뀐 것이 없다면 304 로 본문 없이 끝난다.
+    @Scheduled(cron = "${weather.refresh-cron:0 5 0 * * *}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("날씨 데이터 갱신에 실패해 이전 데이터를 계속 사용합니다. {}", e.getMessage());
+        }
+    }
+
+    public void refresh() {
+        join(bounded(refreshAsync()));
+    }
+
+    /**
+     * 진행 중인 호출이 있다면 그 결과를 함께 기다리고, 없다면 새로 호출한다.
+     * 호출이 끝나면 결과를 알리기 전에 자리를 비워, 이후 요청은 다시 새 호출을 시작할 수 있다.
+     */
+    private CompletableFuture<Snapshot> refreshAsync() {
+        CompletableFuture<Snapshot> future = new CompletableFuture<>();
+        while (!inFlight.compareAndSet(null, future)) {
+            CompletableFuture<Snapshot> running = inFlight.get();
+            if (running != null) {
+                coalescedCounter.increment();
+                return running;
+            }
+        }
+
+        try {
+            fetchExecutor.execute(() -> {
+                try {
+                    Snapshot loaded = fetchWithCircuitBreaker();
+                    inFlight.set(null);
+                    future.complete(loaded);
+                } catch (Throwable e) {
+                    inFlight.set(null);
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.set(null);
+            future.completeExceptionally(new ServerException("날씨 데이터를 가져오는데 실패했습니다. 종료 중입니다."));
+        }
+        return future;
+    }
+
+    // fetchExecutor 의 스레드 하나에서만 호출된다.
+    private Snapshot fetchWithCircuitBreaker() {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 날씨 API 호출이 일시적으로 중단되었습니다.");
+        }
+
+        long start = System.nanoTime();
+        Timer timer = errorTimer;
+        try {
+            timer = fetch() ? okTimer : notModifiedTimer;
+            circuitBreaker.onSuccess();
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return snapshot;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        fetchExecutor.shutdownNow();
+        httpClient.close();
+    }
+
+    // 새 데이터를 불러왔다면 true, 304 로 바뀐 것이 없다면 false 를 돌려준다.
+    private boolean fetch() {
+        Snapshot current = snapshot;
+
+        HttpHeaders headers = new HttpHeaders();
+        if (current != null) {
+            if (current.eTag() != null) {
+                headers.setIfNoneMatch(current.eTag());
+            }
+            if (current.lastModified() >= 0) {
+                headers.setIfModifiedSince(current.lastModified());
+            }
+        }
+
+        ResponseEntity<WeatherDto[]> responseEntity;
+        try {
+            responseEntity = restTemplate.exchange(weatherApiUri, HttpMethod.GET, new HttpEntity<>(headers), WeatherDto[].class);
+        } catch (RestClientException e) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+        }
+
+        if (current != null && HttpStatus.NOT_MODIFIED.equals(responseEntity.getStatusCode())) {
+            return false;
+        }
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
             throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
         }
 
+        WeatherDto[] weatherArray = responseEntity.getBody();
         if (weatherArray == null || weatherArray.length == 0) {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> weatherByDate = new HashMap<>(weatherArray.length * 2);
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                weatherByDate.putIfAbsent(weatherDto.getDate(), weatherDto.getWeather());
             }
         }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        HttpHeaders responseHeaders = responseEntity.getHeaders();
+        snapshot = new Snapshot(Map.copyOf(weatherByDate), responseHeaders.getETag(), responseHeaders.getLastModified());
+        log.info("날씨 데이터 {}건을 불러왔습니다.", weatherByDate.size());
+        return true;
+    }
+
+    // 아직 불러온 적이 없다면 진행 중인 호출에 합류한다.
+    private CompletableFuture<Snapshot> currentSnapshot() {
+        Snapshot current = snapshot;
+        return current != null ? CompletableFuture.completedFuture(current) : refreshAsync();
+    }
+
+    // 진행 중인 호출을 함께 기다리는 다른 요청에 영향을 주지 않도록, 복사본에만 시간 제한을 건다.
+    private <T> CompletableFuture<T> bounded(CompletableFuture<T> future) {
+        return future.copy().orTimeout(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
     }
 
-    private URI buildWeatherApiUri() {
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw toServerException(e);
+        }
+    }
+
+    private static ServerException toServerException(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        if (cause instanceof ServerException serverException) {
+            return serverException;
+        }
+        if (cause instanceof TimeoutException) {
+            return new ServerException("날씨 데이터를 가져오는데 실패했습니다. 응답 시간이 초과되었습니다.");
+        }
+        return new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + cause.getMessage());
+    }
+
+    // 같은 날짜에 응답한 날씨만 대신 쓴다.
+    private String fallback(LocalDate date, ServerException e) {
+        KnownWeather known = lastKnownWeather;
+        if (known == null || !known.date().equals(date)) {
+            throw e;
+        }
+        fallbackCounter.increment();
+        log.warn("마지막으로 응답한 날씨로 대신합니다. {}", e.getMessage());
+        return known.weather();
+    }
+
+    private static Timer upstreamTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("weather.upstream.latency")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static CloseableHttpClient createHttpClient(WeatherClientProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                        .setDefaultKeepAlive(properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS)
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getKeepAlive()))
+                .setRetryStrategy(new StaleConnectionRetryStrategy())
+                .build();
+    }
+
+    private static URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    /**
+     * 서버가 이미 닫은 유휴 커넥션을 재사용해 응답을 받지 못한 경우에만 한 번 다시 보낸다.
+     * 타임아웃이나 연결 실패, 5xx 응답은 재시도하지 않아 느린 API 를 기다리는 시간이 늘어나지 않는다.
+     */
+    private static final class StaleConnectionRetryStrategy extends DefaultHttpRequestRetryStrategy {
+
+        private StaleConnectionRetryStrategy() {
+            super(1, TimeValue.ZERO_MILLISECONDS);
+        }
+
+        @Override
+        public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+            return false;
+        }
+    }
+
+    private record Snapshot(Map<String, String> weatherByDate, String eTag, long lastModified) {
+    }
+
+    private record KnownWeather(LocalDate date, String weather) {
     }
 }
@@ -0,0 +1,35 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * weather 설정. 날씨 API 주소와 HTTP 커넥션 풀, 타임아웃, 서킷 브레이커 설정을 담는다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "weather")
+public class WeatherClientProperties {
+
+    private String baseUrl = "https://f-api.github.io";
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration readTimeout = Duration.ofSeconds(2); // 응답을 기다리는 최대 시간
+    private Duration connectionRequestTimeout = Duration.ofMillis(500); // 풀에서 커넥션을 빌리기까지 기다리는 최대 시간
+    private int maxConnections = 20;
+    private Duration keepAlive = Duration.ofSeconds(30); // 응답에 Keep-Alive 가 없을 때 유휴 커넥션을 유지하는 시간
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private int failureThreshold = 5; // 연속으로 이만큼 실패하면 호출을 멈춘다.
+        private Duration openDuration = Duration.ofSeconds(30); // 호출을 멈추는 시간
+    }
+}
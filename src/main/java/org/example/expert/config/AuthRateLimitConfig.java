@@ -0,0 +1,19 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+@Configuration
+public class AuthRateLimitConfig {
+
+    // /auth 요청은 본문을 읽기 전에 IP 기준으로 먼저 제한한다.
+    @Bean
+    public MappedInterceptor authRateLimitInterceptor(
+            AuthRateLimiter authRateLimiter,
+            @Value("${auth.rate-limit.trusted-proxies:0}") int trustedProxies
+    ) {
+        return new MappedInterceptor(new String[]{"/auth/**"}, new AuthRateLimitInterceptor(authRateLimiter, trustedProxies));
+    }
+}
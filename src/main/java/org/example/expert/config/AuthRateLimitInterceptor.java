@@ -0,0 +1,45 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * /auth 요청을 본문 파싱과 검증 전에 클라이언트 IP 기준으로 제한한다.
+ * <p>
+ * 앞단에 프록시가 trustedProxies 개 있으면 X-Forwarded-For 의 오른쪽에서 trustedProxies 번째 주소를 클라이언트 IP 로 쓴다.
+ * 그보다 왼쪽 값은 클라이언트가 마음대로 채울 수 있으므로 믿지 않는다.
+ */
+public class AuthRateLimitInterceptor implements HandlerInterceptor {
+
+    static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final AuthRateLimiter authRateLimiter;
+    private final int trustedProxies;
+
+    public AuthRateLimitInterceptor(AuthRateLimiter authRateLimiter, int trustedProxies) {
+        this.authRateLimiter = authRateLimiter;
+        this.trustedProxies = trustedProxies;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        authRateLimiter.checkIp(clientIp(request));
+        return true;
+    }
+
+    String clientIp(HttpServletRequest request) {
+        if (trustedProxies <= 0) {
+            return request.getRemoteAddr();
+        }
+
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return request.getRemoteAddr();
+        }
+
+        // 프록시마다 바로 앞 주소를 오른쪽에 덧붙이므로, 가장 바깥 프록시가 본 주소는 오른쪽에서 trustedProxies 번째다.
+        String[] hops = forwardedFor.split(",");
+        return hops[Math.max(0, hops.length - trustedProxies)].trim();
+    }
+}
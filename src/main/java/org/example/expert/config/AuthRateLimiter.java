@@ -0,0 +1,57 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * /auth 요청을 클라이언트 IP 와 이메일 기준으로 제한한다.
+ * IP 는 본문을 읽기 전에 {@link AuthRateLimitInterceptor} 가, 이메일은 DB 조회나 비밀번호 해싱 전에 컨트롤러가 확인한다.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private static final String REJECTED_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+    private final Counter ipRejectedCounter;
+    private final Counter emailRejectedCounter;
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${auth.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${auth.rate-limit.ip.refill-period:1m}") Duration ipRefillPeriod,
+            @Value("${auth.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${auth.rate-limit.email.refill-period:1m}") Duration emailRefillPeriod,
+            @Value("${auth.rate-limit.idle-timeout:10m}") Duration idleTimeout,
+            @Value("${auth.rate-limit.max-keys:100000}") int maxKeys
+    ) {
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPeriod, idleTimeout, maxKeys, 64);
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPeriod, idleTimeout, maxKeys, 64);
+        this.ipRejectedCounter = meterRegistry.counter("auth.rate-limit.rejected", "key", "ip");
+        this.emailRejectedCounter = meterRegistry.counter("auth.rate-limit.rejected", "key", "email");
+        Gauge.builder("auth.rate-limit.keys", ipLimiter, TokenBucketRateLimiter::size).tag("key", "ip").register(meterRegistry);
+        Gauge.builder("auth.rate-limit.keys", emailLimiter, TokenBucketRateLimiter::size).tag("key", "email").register(meterRegistry);
+    }
+
+    public void checkIp(String clientIp) {
+        if (clientIp != null && !ipLimiter.tryAcquire(clientIp)) {
+            ipRejectedCounter.increment();
+            throw new TooManyRequestsException(REJECTED_MESSAGE);
+        }
+    }
+
+    public void checkEmail(String email) {
+        if (email != null && !emailLimiter.tryAcquire(email.toLowerCase(Locale.ROOT))) {
+            emailRejectedCounter.increment();
+            throw new TooManyRequestsException(REJECTED_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.expert.config;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 최대 크기를 넘지 않도록 관리하는 ConcurrentHashMap.
+ * <p>
+ * 가득 찬 상태에서 넣으면 넘겨받은 조건에 맞는(만료된) 항목부터 지우고, 그래도 가득 차 있으면 임의의 항목을 용량의 90% 까지 비운다.
+ * 한 번에 여러 자리를 비워 두어 새 항목이 들어올 때마다 전체를 훑지 않도록 한다.
+ */
+class BoundedMap<K, V> {
+
+    private final int maxSize;
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final Runnable onStaleEviction;
+    private final Runnable onSizeEviction;
+
+    BoundedMap(int maxSize) {
+        this(maxSize, () -> {
+        }, () -> {
+        });
+    }
+
+    BoundedMap(int maxSize, Runnable onStaleEviction, Runnable onSizeEviction) {
+        this.maxSize = maxSize;
+        this.onStaleEviction = onStaleEviction;
+        this.onSizeEviction = onSizeEviction;
+    }
+
+    V get(K key) {
+        return entries.get(key);
+    }
+
+    boolean remove(K key, V value) {
+        return entries.remove(key, value);
+    }
+
+    void put(K key, V value) {
+        put(key, value, entry -> false);
+    }
+
+    void put(K key, V value, Predicate<? super V> stale) {
+        evictIfFull(stale);
+        entries.put(key, value);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evictIfFull(Predicate<? super V> stale) {
+        if (entries.size() < maxSize) {
+            return;
+        }
+
+        Iterator<V> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (stale.test(iterator.next())) {
+                iterator.remove();
+                onStaleEviction.run();
+            }
+        }
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        iterator = entries.values().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            onSizeEviction.run();
+        }
+    }
+}
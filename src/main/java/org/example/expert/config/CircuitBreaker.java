@@ -0,0 +1,82 @@
+package org.example.expert.config;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 횟수 기반의 서킷 브레이커.
+ * <ul>
+ *     <li>CLOSED: 호출을 그대로 보내고, 연속으로 failureThreshold 번 실패하면 OPEN 이 된다.</li>
+ *     <li>OPEN: openDuration 동안 호출을 보내지 않고 바로 거절한다.</li>
+ *     <li>HALF_OPEN: openDuration 이 지나면 시험 호출 하나만 보내고, 성공하면 CLOSED, 실패하면 다시 OPEN 이 된다.</li>
+ * </ul>
+ * 호출하는 쪽은 {@link #tryAcquire()} 가 true 일 때만 호출하고, 결과를 {@link #onSuccess()} / {@link #onFailure()} 로 알려야 한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold 는 1 이상이어야 합니다.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                // HALF_OPEN 에서는 시험 호출 하나만 보낸다.
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+            consecutiveFailures = 0;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -1,6 +1,9 @@
 package org.example.expert.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,11 +13,23 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
+    private final TokenEpochTable tokenEpochTable;
+    private final RouteSecurityTable routeSecurityTable;
+    private final UserProfileCache userProfileCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.rejection-log.permits-per-second:10}")
+    private int rejectionLogsPerSecond;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(
+                jwtUtil, jwtTokenCache, tokenEpochTable, routeSecurityTable, userProfileCache, objectMapper, meterRegistry,
+                rejectionLogsPerSecond
+        ));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
 
         return registrationBean;
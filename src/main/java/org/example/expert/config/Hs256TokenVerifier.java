@@ -0,0 +1,330 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * {@link JwtUtil#createToken} 이 발급하는 HS256 토큰 전용 검증기.
+ * 헤더를 보고 키를 고르는 것은 {@link JwtKeyRing} 이 하고, 이 검증기는 헤더가 HS256 인 토큰만 받는다.
+ * <p>
+ * 토큰을 쪼개거나 claims Map 을 만들지 않고, 스레드마다 재사용하는 {@link Mac} 과 버퍼로
+ * 서명을 검증한 뒤 sub, email, userRole, epoch, exp 만 읽는다. email 과 userRole 이 없는 compact 토큰도 받는다.
+ * 서명이 맞지 않거나 만료된 토큰은 예외 없이 거절 결과를 돌려주고,
+ * 그 밖에 형식이 조금이라도 다르면 null 을 반환해 판단을 jjwt 에 맡긴다.
+ */
+class Hs256TokenVerifier {
+
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] EMAIL = ascii("email");
+    private static final byte[] USER_ROLE = ascii("userRole");
+    private static final byte[] EPOCH = ascii("epoch");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] IAT = ascii("iat");
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final byte[][] ROLE_NAMES = Arrays.stream(ROLES)
+            .map(role -> ascii(role.name()))
+            .toArray(byte[][]::new);
+
+    private static final byte[] BASE64_URL = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final ThreadLocal<Scratch> scratch;
+
+    Hs256TokenVerifier(byte[] secret) {
+        SecretKeySpec keySpec = new SecretKeySpec(secret, "HmacSHA256");
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(keySpec));
+    }
+
+    TokenVerification verify(String token, long now) {
+        int length = token.length();
+        int firstDot = token.indexOf('.');
+        if (firstDot <= 0) {
+            return null;
+        }
+
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || length - secondDot - 1 != 43) {
+            return null;
+        }
+
+        Scratch s = scratch.get();
+        byte[] bytes = s.tokenBytes(length);
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return null;
+            }
+            bytes[i] = (byte) c;
+        }
+
+        // 서명 비교
+        if (decode(bytes, secondDot + 1, length, s.signature, 0) != SIGNATURE_LENGTH) {
+            return null;
+        }
+        try {
+            s.mac.update(bytes, 0, secondDot);
+            s.mac.doFinal(s.expected, 0);
+        } catch (ShortBufferException e) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(s.expected, s.signature)) {
+            return TokenVerification.rejected(TokenRejection.INVALID_SIGNATURE);
+        }
+
+        // payload 에서 필요한 claim 만 읽는다.
+        byte[] payload = s.payload((secondDot - firstDot - 1) * 3 / 4 + 3);
+        int payloadLength = decode(bytes, firstDot + 1, secondDot, payload, 0);
+        if (payloadLength < 0) {
+            return null;
+        }
+
+        TokenClaims claims = new PayloadReader(payload, payloadLength).read();
+        if (claims == null) {
+            return null;
+        }
+        if (now > claims.getExpiration()) {
+            return TokenVerification.rejected(TokenRejection.EXPIRED);
+        }
+        return TokenVerification.valid(claims);
+    }
+
+    /**
+     * base64url(패딩 없음) 을 디코딩한다. 잘못된 문자가 있으면 -1 을 반환한다.
+     */
+    private static int decode(byte[] src, int from, int to, byte[] dst, int offset) {
+        int bits = 0;
+        int bitCount = 0;
+        int position = offset;
+        for (int i = from; i < to; i++) {
+            int value = BASE64_URL[src[i]];
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                if (position == dst.length) {
+                    return -1;
+                }
+                dst[position++] = (byte) (bits >> bitCount);
+            }
+        }
+        return position - offset;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class Scratch {
+
+        private final Mac mac;
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private byte[] tokenBytes = new byte[512];
+        private byte[] payload = new byte[384];
+
+        private Scratch(SecretKeySpec keySpec) {
+            try {
+                this.mac = Mac.getInstance("HmacSHA256");
+                this.mac.init(keySpec);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private byte[] tokenBytes(int length) {
+            if (tokenBytes.length < length) {
+                tokenBytes = new byte[length];
+            }
+            return tokenBytes;
+        }
+
+        private byte[] payload(int length) {
+            if (payload.length < length) {
+                payload = new byte[length];
+            }
+            return payload;
+        }
+    }
+
+    /**
+     * createToken 이 만드는 평평한 JSON 객체만 읽는 최소한의 파서.
+     * 이스케이프 문자나 모르는 claim 이 있으면 null 을 반환한다.
+     */
+    private static final class PayloadReader {
+
+        private final byte[] json;
+        private final int length;
+        private int position;
+
+        private PayloadReader(byte[] json, int length) {
+            this.json = json;
+            this.length = length;
+        }
+
+        private TokenClaims read() {
+            long userId = -1;
+            String email = null;
+            UserRole userRole = null;
+            int tokenEpoch = 0;
+            long expiration = Long.MAX_VALUE;
+
+            if (!consume('{')) {
+                return null;
+            }
+            if (consume('}')) {
+                return null;
+            }
+
+            do {
+                int keyStart = stringStart();
+                if (keyStart < 0) {
+                    return null;
+                }
+                int keyEnd = stringEnd(keyStart);
+                if (keyEnd < 0 || !consume(':')) {
+                    return null;
+                }
+
+                if (matches(keyStart, keyEnd, SUB)) {
+                    int start = stringStart();
+                    int end = start < 0 ? -1 : stringEnd(start);
+                    userId = end < 0 ? -1 : parseLong(start, end);
+                    if (userId < 0) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, EMAIL)) {
+                    int start = stringStart();
+                    int end = start < 0 ? -1 : stringEnd(start);
+                    if (end < 0) {
+                        return null;
+                    }
+                    email = new String(json, start, end - start, StandardCharsets.UTF_8);
+                } else if (matches(keyStart, keyEnd, USER_ROLE)) {
+                    int start = stringStart();
+                    int end = start < 0 ? -1 : stringEnd(start);
+                    userRole = end < 0 ? null : role(start, end);
+                    if (userRole == null) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, EPOCH)) {
+                    long epoch = number();
+                    if (epoch < 0 || epoch > Integer.MAX_VALUE) {
+                        return null;
+                    }
+                    tokenEpoch = (int) epoch;
+                } else if (matches(keyStart, keyEnd, EXP)) {
+                    long seconds = number();
+                    if (seconds < 0) {
+                        return null;
+                    }
+                    expiration = seconds * 1000L;
+                } else if (matches(keyStart, keyEnd, IAT)) {
+                    if (number() < 0) {
+                        return null;
+                    }
+                } else {
+                    return null;
+                }
+            } while (consume(','));
+
+            if (!consume('}') || userId < 0 || (email == null) != (userRole == null)) {
+                return null;
+            }
+            skipWhitespace();
+            if (position != length) {
+                return null;
+            }
+            return new TokenClaims(userId, email, userRole, tokenEpoch, expiration);
+        }
+
+        private int stringStart() {
+            return consume('"') ? position : -1;
+        }
+
+        private int stringEnd(int start) {
+            for (int i = start; i < length; i++) {
+                byte b = json[i];
+                if (b == '\\') {
+                    return -1;
+                }
+                if (b == '"') {
+                    position = i + 1;
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private long number() {
+            skipWhitespace();
+            int start = position;
+            while (position < length && json[position] >= '0' && json[position] <= '9') {
+                position++;
+            }
+            return parseLong(start, position);
+        }
+
+        private long parseLong(int start, int end) {
+            if (start == end || end - start > 18) {
+                return -1;
+            }
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                int digit = json[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        private UserRole role(int start, int end) {
+            for (int i = 0; i < ROLE_NAMES.length; i++) {
+                if (matches(start, end, ROLE_NAMES[i])) {
+                    return ROLES[i];
+                }
+            }
+            return null;
+        }
+
+        private boolean matches(int start, int end, byte[] expected) {
+            return Arrays.equals(json, start, end, expected, 0, expected.length);
+        }
+
+        private boolean consume(char c) {
+            skipWhitespace();
+            if (position < length && json[position] == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < length && (json[position] == ' ' || json[position] == '\n'
+                    || json[position] == '\r' || json[position] == '\t')) {
+                position++;
+            }
+        }
+    }
+}
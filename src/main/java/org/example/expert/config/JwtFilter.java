@@ -1,24 +1,65 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterConfig;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.http.MediaType;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
+    private final TokenEpochTable tokenEpochTable;
+    private final RouteSecurityTable routeSecurityTable;
+    private final UserProfileCache userProfileCache;
+    private final SampledLogger rejectionLogger;
+
+    // 거절 응답 본문은 매번 직렬화하지 않도록 이유별로 미리 만들어 둔다.
+    private final byte[][] rejectionBodies;
+    private final Counter[] rejectionCounters;
+
+    public JwtFilter(
+            JwtUtil jwtUtil,
+            JwtTokenCache jwtTokenCache,
+            TokenEpochTable tokenEpochTable,
+            RouteSecurityTable routeSecurityTable,
+            UserProfileCache userProfileCache,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            int rejectionLogsPerSecond
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.jwtTokenCache = jwtTokenCache;
+        this.tokenEpochTable = tokenEpochTable;
+        this.routeSecurityTable = routeSecurityTable;
+        this.userProfileCache = userProfileCache;
+        this.rejectionLogger = new SampledLogger(log, rejectionLogsPerSecond);
+
+        TokenRejection[] rejections = TokenRejection.values();
+        this.rejectionBodies = new byte[rejections.length][];
+        this.rejectionCounters = new Counter[rejections.length];
+        for (TokenRejection rejection : rejections) {
+            rejectionBodies[rejection.ordinal()] = errorBody(objectMapper, rejection);
+            rejectionCounters[rejection.ordinal()] = meterRegistry.counter("jwt.rejected", "reason", rejection.name());
+        }
+    }
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -30,60 +71,81 @@ public class JwtFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String url = httpRequest.getRequestURI();
+        // 토큰이 필요 없는 경로는 토큰을 보지 않고 통과시킵니다.
+        String path = httpRequest.getRequestURI().substring(httpRequest.getContextPath().length());
+        RouteAccess routeAccess = routeSecurityTable.lookup(httpRequest.getMethod(), path);
 
-        if (url.startsWith("/auth")) {
+        if (routeAccess == RouteAccess.PUBLIC) {
             chain.doFilter(request, response);
             return;
         }
 
+        // 매핑되지 않은 경로는 토큰을 보지 않고 404를 반환합니다.
+        if (routeAccess == RouteAccess.NOT_FOUND) {
+            reject(httpRequest, httpResponse, TokenRejection.NOT_FOUND);
+            return;
+        }
+
         String bearerJwt = httpRequest.getHeader("Authorization");
 
         if (bearerJwt == null) {
             // 토큰이 없는 경우 400을 반환합니다.
-            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "JWT 토큰이 필요합니다.");
+            reject(httpRequest, httpResponse, TokenRejection.MISSING_TOKEN);
+            return;
+        }
+
+        if (!bearerJwt.startsWith(BEARER_PREFIX)) {
+            reject(httpRequest, httpResponse, TokenRejection.INVALID_TOKEN);
             return;
         }
 
-        String jwt = jwtUtil.substringToken(bearerJwt);
+        String jwt = bearerJwt.substring(BEARER_PREFIX.length());
 
-        try {
+        // 이미 검증된 토큰이라면 캐시에 보관된 AuthUser 를 그대로 사용합니다.
+        JwtTokenCache.CachedToken cachedToken = jwtTokenCache.get(jwt);
+
+        if (cachedToken == null) {
             // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+            TokenVerification verification = jwtUtil.verifyToken(jwt);
+            if (!verification.isValid()) {
+                reject(httpRequest, httpResponse, verification.getRejection());
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            // compact 토큰이면 email, userRole 은 핸들러나 관리자 권한 확인에서 처음 꺼낼 때 프로필 캐시에서 읽습니다.
+            TokenClaims claims = verification.getClaims();
+            AuthUser authUser = claims.isCompact()
+                    ? userProfileCache.lazyAuthUser(claims.getUserId())
+                    : new AuthUser(claims.getUserId(), claims.getEmail(), claims.getUserRole());
+            cachedToken = jwtTokenCache.put(jwt, authUser, claims.getTokenEpoch(), claims.getExpiration());
+        }
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+        AuthUser authUser = cachedToken.authUser();
 
-            if (url.startsWith("/admin")) {
-                // 관리자 권한이 없는 경우 403을 반환합니다.
-                if (!UserRole.ADMIN.equals(userRole)) {
-                    httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
-                    return;
-                }
-                chain.doFilter(request, response);
-                return;
-            }
+        // 토큰 발급 이후 권한이나 비밀번호가 바뀌었다면 401을 반환합니다.
+        if (cachedToken.tokenEpoch() < tokenEpochTable.get(authUser.getId())) {
+            reject(httpRequest, httpResponse, TokenRejection.REVOKED);
+            return;
+        }
 
-            chain.doFilter(request, response);
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
-        } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
-        } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
-        } catch (Exception e) {
-            log.error("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
+        httpRequest.setAttribute("authUser", authUser);
+        httpRequest.setAttribute("userId", authUser.getId());
+
+        // 관리자 권한이 없는 경우 403을 반환합니다.
+        if (routeAccess == RouteAccess.ADMIN && !UserRole.ADMIN.equals(userRole(authUser))) {
+            reject(httpRequest, httpResponse, TokenRejection.FORBIDDEN);
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    // compact 토큰의 user 가 DB 에 없다면 권한이 없는 것으로 봅니다.
+    private static UserRole userRole(AuthUser authUser) {
+        try {
+            return authUser.getUserRole();
+        } catch (AuthException e) {
+            return null;
         }
     }
 
@@ -91,4 +153,31 @@ public class JwtFilter implements Filter {
     public void destroy() {
         Filter.super.destroy();
     }
+
+    // sendError 는 /error 로 다시 디스패치되므로, GlobalExceptionHandler 와 같은 형식의 JSON 을 직접 씁니다.
+    // 잘못된 토큰이 몰려 들어올 때를 대비해 로그는 1초당 정해진 건수만 스택 트레이스 없이 남깁니다.
+    private void reject(HttpServletRequest request, HttpServletResponse response, TokenRejection rejection) throws IOException {
+        rejectionCounters[rejection.ordinal()].increment();
+        rejectionLogger.warn("JWT 토큰 거절: {} {}", rejection, request.getRequestURI());
+
+        byte[] body = rejectionBodies[rejection.ordinal()];
+        response.setStatus(rejection.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] errorBody(ObjectMapper objectMapper, TokenRejection rejection) {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("status", rejection.getStatus().name());
+        errorResponse.put("code", rejection.getStatus().value());
+        errorResponse.put("message", rejection.getMessage());
+
+        try {
+            return objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,249 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * kid 별 서명/검증 키 묶음.
+ * <p>
+ * 키마다 검증기(jjwt 파서, HS256 이면 빠른 경로 검증기까지)를 시작할 때 만들어 두고, 토큰 헤더로 키를 고른다.
+ * 우리가 발급하는 토큰의 헤더는 키마다 항상 같으므로 먼저 문자열 비교로 찾고, 그래도 못 찾으면 헤더 JSON 을 읽는다.
+ * kid 가 없는 토큰은 jwt.secret.key 로 서명된 기존 HS256 토큰으로 본다.
+ * <p>
+ * 키를 교체할 때는 새 키를 추가하고 signing-kid 를 바꾼 뒤, 이전 키에는 마지막으로 발급한 토큰이 만료될 때까지
+ * not-after 를 걸어 두면 두 키로 서명된 토큰을 함께 받을 수 있다.
+ */
+class JwtKeyRing {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final KeyEntry legacy;
+    private final KeyEntry[] entries;
+    private final Map<String, KeyEntry> entriesByKid = new HashMap<>();
+    @Getter
+    private final KeyEntry signingKey;
+
+    JwtKeyRing(String legacySecret, JwtKeyRingProperties properties) {
+        List<KeyEntry> all = new ArrayList<>();
+
+        if (StringUtils.hasText(legacySecret)) {
+            legacy = KeyEntry.hmac(null, SignatureAlgorithm.HS256, Base64.getDecoder().decode(legacySecret), Long.MAX_VALUE);
+            all.add(legacy);
+        } else {
+            legacy = null;
+        }
+
+        for (JwtKeyRingProperties.Key key : properties.getKeys()) {
+            KeyEntry entry = KeyEntry.of(key);
+            if (entriesByKid.put(entry.kid, entry) != null) {
+                throw new IllegalStateException("중복된 kid 입니다: " + entry.kid);
+            }
+            all.add(entry);
+        }
+        entries = all.toArray(KeyEntry[]::new);
+
+        // signing-kid 도 기존 키도 없다면 토큰을 검증만 하는 노드이다.
+        String signingKid = properties.getSigningKid();
+        if (StringUtils.hasText(signingKid)) {
+            signingKey = entriesByKid.get(signingKid);
+            if (signingKey == null || signingKey.signingKey == null) {
+                throw new IllegalStateException(signingKid + ": 토큰 서명에 사용할 키가 없습니다. 개인 키 설정을 확인하세요.");
+            }
+        } else {
+            signingKey = legacy;
+        }
+        if (entries.length == 0) {
+            throw new IllegalStateException("jwt.secret.key 나 jwt.key-ring.keys 중 하나는 설정해야 합니다.");
+        }
+    }
+
+    TokenVerification verify(String token, long now) {
+        int firstDot = token.indexOf('.');
+        KeyEntry entry = findByHeader(token, firstDot);
+
+        if (entry == null) {
+            Map<?, ?> header = readHeader(token, firstDot);
+            if (header == null) {
+                return TokenVerification.rejected(TokenRejection.INVALID_SIGNATURE);
+            }
+
+            Object alg = header.get("alg");
+            if (alg == null || "none".equalsIgnoreCase(alg.toString())) {
+                return TokenVerification.rejected(TokenRejection.UNSUPPORTED);
+            }
+
+            Object kid = header.get("kid");
+            entry = kid == null ? legacy : entriesByKid.get(kid.toString());
+            // 키가 없거나, 헤더의 알고리즘이 키의 알고리즘과 다르면 받지 않는다.
+            if (entry == null || !entry.algorithm.getValue().equals(alg)) {
+                return TokenVerification.rejected(TokenRejection.INVALID_SIGNATURE);
+            }
+        }
+
+        if (now > entry.notAfterMillis) {
+            return TokenVerification.rejected(TokenRejection.INVALID_SIGNATURE);
+        }
+        return entry.verify(token, now);
+    }
+
+    // 검증 결과 대신 jjwt 의 Claims 와 예외를 그대로 돌려준다.
+    Claims parse(String token) {
+        KeyEntry entry = findByHeader(token, token.indexOf('.'));
+        if (entry == null) {
+            entry = legacy != null ? legacy : entries[0];
+        }
+        return entry.parser.parseClaimsJws(token).getBody();
+    }
+
+    private KeyEntry findByHeader(String token, int firstDot) {
+        for (KeyEntry entry : entries) {
+            if (firstDot == entry.header.length() && token.startsWith(entry.header)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static Map<?, ?> readHeader(String token, int firstDot) {
+        if (firstDot <= 0) {
+            return null;
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token.substring(0, firstDot));
+            return OBJECT_MAPPER.readValue(json, Map.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @Getter
+    static final class KeyEntry {
+
+        private final String kid; // 기존 jwt.secret.key 는 null
+        private final SignatureAlgorithm algorithm;
+        private final Key signingKey; // 검증만 하는 노드라면 null
+        private final JwtParser parser;
+        private final Hs256TokenVerifier hs256TokenVerifier;
+        private final String header; // 이 키로 발급한 토큰의 헤더 (base64url)
+        private final long notAfterMillis;
+
+        private KeyEntry(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey,
+                         Hs256TokenVerifier hs256TokenVerifier, long notAfterMillis) {
+            this.kid = kid;
+            this.algorithm = algorithm;
+            this.signingKey = signingKey;
+            this.parser = Jwts.parserBuilder().setSigningKey(verificationKey).build();
+            this.hs256TokenVerifier = hs256TokenVerifier;
+            this.header = header(kid, algorithm);
+            this.notAfterMillis = notAfterMillis;
+        }
+
+        private static KeyEntry of(JwtKeyRingProperties.Key key) {
+            if (!StringUtils.hasText(key.getKid())) {
+                throw new IllegalStateException("jwt.key-ring.keys 의 kid 는 필수입니다.");
+            }
+
+            SignatureAlgorithm algorithm = SignatureAlgorithm.forName(key.getAlgorithm());
+            long notAfterMillis = key.getNotAfter() == null ? Long.MAX_VALUE : key.getNotAfter().toEpochMilli();
+
+            if (algorithm.isHmac()) {
+                if (!StringUtils.hasText(key.getSecret())) {
+                    throw new IllegalStateException(key.getKid() + ": HMAC 키에는 secret 이 필요합니다.");
+                }
+                return hmac(key.getKid(), algorithm, Base64.getDecoder().decode(key.getSecret()), notAfterMillis);
+            }
+
+            if (!algorithm.isRsa() && !algorithm.isEllipticCurve()) {
+                throw new IllegalStateException(key.getKid() + ": 지원하지 않는 알고리즘입니다. " + algorithm);
+            }
+            if (!StringUtils.hasText(key.getPublicKey())) {
+                throw new IllegalStateException(key.getKid() + ": 비대칭 키에는 public-key 가 필요합니다.");
+            }
+
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(algorithm.isRsa() ? "RSA" : "EC");
+                Key publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+                Key privateKey = StringUtils.hasText(key.getPrivateKey())
+                        ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key.getPrivateKey())))
+                        : null;
+                return new KeyEntry(key.getKid(), algorithm, privateKey, publicKey, null, notAfterMillis);
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                throw new IllegalStateException(key.getKid() + ": 키를 읽을 수 없습니다.", e);
+            }
+        }
+
+        private static KeyEntry hmac(String kid, SignatureAlgorithm algorithm, byte[] secret, long notAfterMillis) {
+            Key key = Keys.hmacShaKeyFor(secret);
+            Hs256TokenVerifier verifier = algorithm == SignatureAlgorithm.HS256 ? new Hs256TokenVerifier(secret) : null;
+            return new KeyEntry(kid, algorithm, key, key, verifier, notAfterMillis);
+        }
+
+        // JwtUtil#createToken 은 kid 를 먼저 넣고 서명할 때 alg 가 붙으므로 헤더는 {"kid":..,"alg":..} 순서가 된다.
+        private static String header(String kid, SignatureAlgorithm algorithm) {
+            Map<String, String> header = new LinkedHashMap<>();
+            if (kid != null) {
+                header.put("kid", kid);
+            }
+            header.put("alg", algorithm.getValue());
+            try {
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(header));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private TokenVerification verify(String token, long now) {
+            if (hs256TokenVerifier != null) {
+                TokenVerification verification = hs256TokenVerifier.verify(token, now);
+                if (verification != null) {
+                    return verification;
+                }
+            }
+
+            try {
+                Claims claims = parser.parseClaimsJws(token).getBody();
+                Integer epoch = claims.get("epoch", Integer.class);
+                String userRole = claims.get("userRole", String.class); // compact 토큰에는 없다.
+                return TokenVerification.valid(new TokenClaims(
+                        Long.parseLong(claims.getSubject()),
+                        claims.get("email", String.class),
+                        userRole == null ? null : UserRole.valueOf(userRole),
+                        epoch == null ? 0 : epoch,
+                        claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime()
+                ));
+            } catch (SecurityException | MalformedJwtException e) {
+                return TokenVerification.rejected(TokenRejection.INVALID_SIGNATURE);
+            } catch (ExpiredJwtException e) {
+                return TokenVerification.rejected(TokenRejection.EXPIRED);
+            } catch (UnsupportedJwtException e) {
+                return TokenVerification.rejected(TokenRejection.UNSUPPORTED);
+            } catch (RuntimeException e) {
+                return TokenVerification.rejected(TokenRejection.INVALID_TOKEN);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * jwt.key-ring 설정. kid 별 서명 키 목록과 새 토큰에 사용할 키(signing-kid)를 지정한다.
+ * <pre>
+ * jwt:
+ *   key-ring:
+ *     signing-kid: 2026-10
+ *     keys:
+ *       - kid: 2026-10
+ *         algorithm: ES256
+ *         public-key: ...  # X.509(SubjectPublicKeyInfo) DER 의 base64
+ *         private-key: ... # PKCS#8 DER 의 base64, 토큰을 발급하는 노드에만 둔다.
+ *       - kid: 2026-07
+ *         algorithm: HS256
+ *         secret: ...      # base64
+ *         not-after: 2026-10-20T00:00:00Z # 이 시각 이후로는 이 키로 서명된 토큰을 받지 않는다.
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.key-ring")
+public class JwtKeyRingProperties {
+
+    private String signingKid;
+    private List<Key> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String kid;
+        private String algorithm;
+        private String secret;
+        private String publicKey;
+        private String privateKey;
+        private Instant notAfter;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 검증이 끝난 JWT 토큰을 만료 시각까지 보관하는 캐시.
+ * 같은 토큰이 반복해서 들어오면 서명 검증과 claims 파싱 없이 미리 만들어 둔 {@link AuthUser}를 돌려준다.
+ * 토큰의 epoch 도 함께 보관해 캐시에 있는 토큰도 {@link TokenEpochTable} 로 무효화를 확인할 수 있게 한다.
+ */
+@Slf4j(topic = "JwtTokenCache")
+@Component
+public class JwtTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final BoundedMap<TokenKey, CachedToken> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter expiredEvictionCounter;
+    private final Counter sizeEvictionCounter;
+
+    public JwtTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize, MeterRegistry meterRegistry) {
+        this.hitCounter = meterRegistry.counter("jwt.token.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.token.cache.requests", "result", "miss");
+        this.expiredEvictionCounter = meterRegistry.counter("jwt.token.cache.evictions", "cause", "expired");
+        this.sizeEvictionCounter = meterRegistry.counter("jwt.token.cache.evictions", "cause", "size");
+        this.entries = new BoundedMap<>(maxSize, expiredEvictionCounter::increment, sizeEvictionCounter::increment);
+        Gauge.builder("jwt.token.cache.size", entries, BoundedMap::size).register(meterRegistry);
+    }
+
+    public CachedToken get(String token) {
+        TokenKey key = TokenKey.of(token);
+        CachedToken entry = entries.get(key);
+
+        if (entry == null) {
+            missCounter.increment();
+            return null;
+        }
+
+        // 만료된 토큰은 캐시에서 제거하고 다시 검증하도록 한다.
+        if (entry.isExpired(System.currentTimeMillis())) {
+            if (entries.remove(key, entry)) {
+                expiredEvictionCounter.increment();
+            }
+            missCounter.increment();
+            return null;
+        }
+
+        hitCounter.increment();
+        return entry;
+    }
+
+    public CachedToken put(String token, AuthUser authUser, int tokenEpoch, long expiresAtMillis) {
+        CachedToken cachedToken = new CachedToken(authUser, tokenEpoch, expiresAtMillis);
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) {
+            return cachedToken;
+        }
+
+        // 가득 차 있으면 만료된 토큰부터 정리한다.
+        entries.put(TokenKey.of(token), cachedToken, entry -> entry.isExpired(now));
+        return cachedToken;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 토큰 원문 대신 SHA-256 해시의 앞 128bit 를 키로 사용한다.
+     */
+    private record TokenKey(long high, long low) {
+
+        static TokenKey of(String token) {
+            byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new TokenKey(buffer.getLong(), buffer.getLong());
+        }
+    }
+
+    public record CachedToken(AuthUser authUser, int tokenEpoch, long expiresAtMillis) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
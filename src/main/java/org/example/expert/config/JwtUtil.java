@@ -1,10 +1,10 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
@@ -12,42 +12,60 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
 
 @Slf4j(topic = "JwtUtil")
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
-    @Value("${jwt.secret.key}")
-    private String secretKey;
-    private Key key;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private final TokenEpochTable tokenEpochTable;
+    private final JwtKeyRingProperties jwtKeyRingProperties;
+    @Value("${jwt.secret.key:}")
+    private String secretKey; // kid 없이 서명하는 기존 HS256 키, key-ring 만 쓴다면 비워 둘 수 있다.
+    private JwtKeyRing keyRing;
 
     @PostConstruct
     public void init() {
-        byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        keyRing = new JwtKeyRing(secretKey, jwtKeyRingProperties);
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
         Date date = new Date();
-
         return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(String.valueOf(userId))
+                builder(userId, date)
                         .claim("email", email)
                         .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
+    // email 과 userRole 을 빼고 sub, epoch, exp 만 담는 토큰. 자주 폴링하는 클라이언트의 헤더 크기와 파싱 비용을 줄인다.
+    public String createCompactToken(Long userId) {
+        return BEARER_PREFIX + builder(userId, new Date()).compact();
+    }
+
+    private JwtBuilder builder(Long userId, Date date) {
+        JwtKeyRing.KeyEntry signingKey = keyRing.getSigningKey();
+        if (signingKey == null) {
+            throw new ServerException("토큰을 발급할 서명 키가 설정되지 않았습니다.");
+        }
+
+        JwtBuilder builder = Jwts.builder();
+        if (signingKey.getKid() != null) {
+            builder.setHeaderParam("kid", signingKey.getKid()); // 검증할 때 키를 고르는 기준
+        }
+
+        return builder
+                .setSubject(String.valueOf(userId))
+                .claim("epoch", tokenEpochTable.get(userId)) // 권한/비밀번호 변경 시 무효화 기준
+                .setExpiration(new Date(date.getTime() + TOKEN_TIME))
+                .signWith(signingKey.getSigningKey(), signingKey.getAlgorithm()); // 암호화 알고리즘
+    }
+
     public String substringToken(String tokenValue) {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
             return tokenValue.substring(7);
@@ -56,10 +74,26 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return keyRing.parse(token);
+    }
+
+    // 헤더로 키를 고른 뒤, 직접 발급한 HS256 토큰은 빠른 경로로, 그 외의 토큰은 jjwt 로 검증합니다.
+    // 어느 쪽이든 예외를 던지지 않고 거절 이유를 담아 반환합니다.
+    public TokenVerification verifyToken(String token) {
+        if (!hasThreeParts(token)) {
+            return TokenVerification.rejected(TokenRejection.INVALID_SIGNATURE);
+        }
+        return keyRing.verify(token, System.currentTimeMillis());
+    }
+
+    // jjwt 에 넘기기 전에 점(.)이 정확히 두 개인지 확인해, 형식이 아예 다른 토큰은 예외 없이 거절합니다.
+    private static boolean hasThreeParts(String token) {
+        int dots = 0;
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) == '.' && ++dots > 2) {
+                return false;
+            }
+        }
+        return dots == 2;
     }
 }
@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 서로 관계없는 읽기 쿼리를 요청 스레드와 나눠 동시에 실행하는 스레드 풀.
+ * 작업마다 자기 스레드에서 트랜잭션과 DB 커넥션을 따로 쓰므로 스레드 수는 커넥션 풀보다 충분히 작게 둔다.
+ * 스레드와 대기열이 모두 차 있으면 요청 스레드가 직접 실행하므로, 그때는 순서대로 조회하는 것과 같아진다.
+ * 커넥션을 얻지 못해 오래 걸리는 작업을 끝없이 기다리지 않도록, 결과는 timeout 이 지나면 TimeoutException 으로 끝난다.
+ */
+@Component
+public class ParallelQueryExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public ParallelQueryExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${query.parallel.pool-size:4}") int poolSize,
+            @Value("${query.parallel.queue-capacity:64}") int queueCapacity,
+            @Value("${query.parallel.timeout:3s}") Duration timeout
+    ) {
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new QueryThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        Gauge.builder("query.parallel.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("query.parallel.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static class QueryThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "parallel-query-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.expert.config;
+
+/**
+ * 경로별로 JwtFilter 가 요구하는 접근 수준. PUBLIC 부터 ADMIN 까지는 뒤에 있을수록 더 엄격하다.
+ */
+public enum RouteAccess {
+    PUBLIC,        // 토큰을 보지 않는다.
+    AUTHENTICATED, // 유효한 토큰이 필요하다.
+    ADMIN,         // 관리자 권한의 토큰이 필요하다.
+    NOT_FOUND      // 매핑된 경로가 없다. 토큰을 보지 않고 404 를 돌려준다.
+}
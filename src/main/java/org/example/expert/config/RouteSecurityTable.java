@@ -0,0 +1,257 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.annotation.AdminLogger;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컨트롤러와 actuator 매핑을 읽어 경로별 {@link RouteAccess} 를 segment 단위 트라이로 만들어 둔다.
+ * 접근 수준은 경로만으로 정한다.
+ * <ul>
+ *     <li>/admin 아래 경로와 {@link AdminLogger} 가 붙은 컨트롤러 → ADMIN</li>
+ *     <li>/auth 아래 경로 → PUBLIC</li>
+ *     <li>그 외 → AUTHENTICATED</li>
+ * </ul>
+ * 매핑되지 않은 /admin/** 는 ADMIN 으로 보고, 그 밖에 매핑되지 않은 경로와 메서드는 NOT_FOUND 로 본다.
+ * 조회할 때는 Spring 과 같이 segment 의 ;matrix 파라미터를 떼고 %인코딩을 풀어 비교하며,
+ * 같은 자리에서는 {var} 보다 고정 문자열을 먼저 시도한다.
+ */
+@Slf4j(topic = "RouteSecurityTable")
+@Component
+public class RouteSecurityTable {
+
+    private static final RequestMethod[] METHODS = RequestMethod.values();
+    private static final String ADMIN_SEGMENT = "admin";
+    private static final String AUTH_SEGMENT = "auth";
+
+    private volatile Node root = new Node();
+
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        Map<String, RequestMappingInfoHandlerMapping> handlerMappings =
+                context.getBeansOfType(RequestMappingInfoHandlerMapping.class);
+        if (handlerMappings.isEmpty()) {
+            return;
+        }
+
+        Map<RequestMappingInfo, HandlerMethod> handlerMethods = new HashMap<>();
+        for (RequestMappingInfoHandlerMapping handlerMapping : handlerMappings.values()) {
+            handlerMethods.putAll(handlerMapping.getHandlerMethods());
+        }
+        load(handlerMethods);
+    }
+
+    void load(Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        Node built = new Node();
+        add(built, "/" + ADMIN_SEGMENT, Set.of(), RouteAccess.ADMIN);
+        add(built, "/" + ADMIN_SEGMENT + "/**", Set.of(), RouteAccess.ADMIN);
+
+        int routes = 0;
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMethods.entrySet()) {
+            Set<RequestMethod> methods = entry.getKey().getMethodsCondition().getMethods();
+            for (String pattern : entry.getKey().getPatternValues()) {
+                add(built, pattern, methods, accessOf(pattern, entry.getValue()));
+                routes++;
+            }
+        }
+        root = built;
+        log.info("route 보안 테이블을 만들었습니다. ({}개 경로)", routes);
+    }
+
+    public RouteAccess lookup(String method, String path) {
+        RequestMethod requestMethod = RequestMethod.resolve(method);
+        if (requestMethod == null || path.isEmpty() || path.charAt(0) != '/') {
+            return RouteAccess.NOT_FOUND;
+        }
+
+        RouteAccess access = match(root, path, 0, requestMethod);
+        return access == null ? RouteAccess.NOT_FOUND : access;
+    }
+
+    void add(String pattern, Set<RequestMethod> methods, RouteAccess access) {
+        add(root, pattern, methods, access);
+    }
+
+    // /admin 경로는 어노테이션이 없어도 ADMIN 이고, 토큰 없이 들어올 수 있는 곳은 /auth 뿐이다.
+    private static RouteAccess accessOf(String pattern, HandlerMethod handlerMethod) {
+        String firstSegment = firstSegment(pattern);
+        if (ADMIN_SEGMENT.equals(firstSegment)
+                || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), AdminLogger.class)) {
+            return RouteAccess.ADMIN;
+        }
+        if (AUTH_SEGMENT.equals(firstSegment)) {
+            return RouteAccess.PUBLIC;
+        }
+        return RouteAccess.AUTHENTICATED;
+    }
+
+    private static String firstSegment(String pattern) {
+        for (String segment : pattern.split("/")) {
+            if (!segment.isEmpty()) {
+                return segment;
+            }
+        }
+        return "";
+    }
+
+    private static void add(Node root, String pattern, Set<RequestMethod> methods, RouteAccess access) {
+        Node node = root;
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals("**") || segment.startsWith("{*")) {
+                node = node.rest();
+                break;
+            }
+            if (segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0) {
+                node = node.variable();
+            } else {
+                node = node.literal(segment);
+            }
+        }
+        node.allow(methods, access);
+    }
+
+    // position 은 다음 segment 앞의 '/' 위치. 고정 문자열 → {var} → /** 순서로 시도하고, 실패하면 되돌아가 다음 후보를 본다.
+    private static RouteAccess match(Node node, String path, int position, RequestMethod method) {
+        if (position == path.length()) {
+            return node.access(method);
+        }
+
+        int start = position + 1;
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        int valueEnd = path.indexOf(';', start);
+        if (valueEnd < 0 || valueEnd > end) {
+            valueEnd = end;
+        }
+
+        if (node.literalKeys.length > 0) {
+            Node literal = node.findLiteral(path, start, valueEnd);
+            if (literal != null) {
+                RouteAccess access = match(literal, path, end, method);
+                if (access != null) {
+                    return access;
+                }
+            }
+        }
+
+        if (node.variable != null && valueEnd > start) {
+            RouteAccess access = match(node.variable, path, end, method);
+            if (access != null) {
+                return access;
+            }
+        }
+
+        return node.rest == null ? null : node.rest.access(method);
+    }
+
+    private static final class Node {
+
+        private String[] literalKeys = new String[0];
+        private Node[] literalNodes = new Node[0];
+        private Node variable;
+        private Node rest;
+        private final RouteAccess[] byMethod = new RouteAccess[METHODS.length];
+        private RouteAccess anyMethod;
+
+        private Node literal(String key) {
+            for (int i = 0; i < literalKeys.length; i++) {
+                if (literalKeys[i].equals(key)) {
+                    return literalNodes[i];
+                }
+            }
+            Node child = new Node();
+            literalKeys = Arrays.copyOf(literalKeys, literalKeys.length + 1);
+            literalNodes = Arrays.copyOf(literalNodes, literalNodes.length + 1);
+            literalKeys[literalKeys.length - 1] = key;
+            literalNodes[literalNodes.length - 1] = child;
+            return child;
+        }
+
+        private Node variable() {
+            if (variable == null) {
+                variable = new Node();
+            }
+            return variable;
+        }
+
+        private Node rest() {
+            if (rest == null) {
+                rest = new Node();
+            }
+            return rest;
+        }
+
+        // 같은 경로와 메서드에 핸들러가 여럿이면(params 조건 등) 가장 엄격한 수준을 따른다.
+        private void allow(Set<RequestMethod> methods, RouteAccess access) {
+            if (methods.isEmpty()) {
+                anyMethod = stricter(anyMethod, access);
+                return;
+            }
+            for (RequestMethod method : methods) {
+                byMethod[method.ordinal()] = stricter(byMethod[method.ordinal()], access);
+            }
+        }
+
+        private RouteAccess access(RequestMethod method) {
+            RouteAccess access = byMethod[method.ordinal()];
+            if (access == null && method == RequestMethod.HEAD) {
+                access = byMethod[RequestMethod.GET.ordinal()];
+            }
+            return access == null ? anyMethod : access;
+        }
+
+        private Node findLiteral(String path, int start, int end) {
+            int length = end - start;
+            int percent = path.indexOf('%', start);
+            if (percent < 0 || percent >= end) {
+                for (int i = 0; i < literalKeys.length; i++) {
+                    String key = literalKeys[i];
+                    if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                        return literalNodes[i];
+                    }
+                }
+                return null;
+            }
+
+            // %인코딩된 segment 는 풀어서 비교한다. (예: /%61dmin → /admin)
+            String decoded;
+            try {
+                decoded = UriUtils.decode(path.substring(start, end), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            for (int i = 0; i < literalKeys.length; i++) {
+                if (literalKeys[i].equals(decoded)) {
+                    return literalNodes[i];
+                }
+            }
+            return null;
+        }
+
+        private static RouteAccess stricter(RouteAccess current, RouteAccess access) {
+            return current == null || access.compareTo(current) > 0 ? access : current;
+        }
+    }
+}
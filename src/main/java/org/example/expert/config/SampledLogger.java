@@ -0,0 +1,45 @@
+package org.example.expert.config;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 1초에 정해진 건수까지만 로그를 남기고 나머지는 버린다.
+ * 버린 건수는 다음 구간의 첫 로그에 함께 남긴다.
+ */
+class SampledLogger {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger logger;
+    private final int permitsPerSecond;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger count = new AtomicInteger();
+
+    SampledLogger(Logger logger, int permitsPerSecond) {
+        this.logger = logger;
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    void warn(String format, Object arg1, Object arg2) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            int suppressed = count.getAndSet(0) - permitsPerSecond;
+            if (suppressed > 0) {
+                logger.warn("직전 1초 동안 로그 {}건을 생략했습니다.", suppressed);
+            }
+        }
+
+        if (count.incrementAndGet() <= permitsPerSecond) {
+            logger.warn(format, arg1, arg2);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.expert.config;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 rate limiter.
+ * <p>
+ * 버킷 하나는 다음 토큰이 채워지는 이론상 시각(TAT) 하나만 {@link AtomicLong} 으로 들고 있고,
+ * CAS 한 번으로 토큰을 소비한다(GCRA). 키는 여러 stripe 로 나눠 보관하며 stripe 마다 최대 키 수를 두어
+ * 메모리 사용량을 제한하고, 가득 차면 그 stripe 안에서만 오래 쓰이지 않은 키를 정리한다.
+ * 정리할 키가 없으면 아직 토큰을 쓰고 있는 키는 그대로 두고, 새 키는 stripe 마다 하나씩 있는 공용 버킷을 나눠 쓴다.
+ * 키를 잔뜩 만들어 다른 키의 버킷을 밀어내는 방법으로 제한을 초기화할 수 없도록 하기 위해서다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos; // 토큰 하나가 채워지는 데 걸리는 시간
+    private final long capacityNanos; // 버킷이 가득 찼을 때 허용되는 TAT 와 현재 시각의 최대 차이
+    private final long idleTimeoutNanos;
+    private final int maxKeysPerStripe;
+    private final Map<String, AtomicLong>[] stripes;
+    private final AtomicLong[] overflowBuckets;
+    private final AtomicLong[] nextEvictNanos; // 이 시각 전에는 stripe 를 다시 훑어도 정리할 키가 없다.
+    private final int stripeShift;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, Duration idleTimeout, int maxKeys, int stripeCount) {
+        this(capacity, refillPeriod, idleTimeout, maxKeys, stripeCount, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    TokenBucketRateLimiter(int capacity, Duration refillPeriod, Duration idleTimeout, int maxKeys, int stripeCount, LongSupplier nanoClock) {
+        if (capacity <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("capacity 는 1 이상, stripeCount 는 2의 거듭제곱이어야 합니다.");
+        }
+
+        this.emissionIntervalNanos = refillPeriod.toNanos() / capacity;
+        this.capacityNanos = emissionIntervalNanos * capacity;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        this.nanoClock = nanoClock;
+        this.stripeShift = 32 - Integer.numberOfTrailingZeros(stripeCount);
+        this.stripes = new Map[stripeCount];
+        this.overflowBuckets = new AtomicLong[stripeCount];
+        this.nextEvictNanos = new AtomicLong[stripeCount];
+        long start = nanoClock.getAsLong();
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+            overflowBuckets[i] = new AtomicLong(start);
+            nextEvictNanos[i] = new AtomicLong(start);
+        }
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = bucket(key, now);
+
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            if (newTat - now > capacityNanos) {
+                return false;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return true;
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        int index = stripeIndex(key);
+        Map<String, AtomicLong> stripe = stripes[index];
+
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        if (stripe.size() >= maxKeysPerStripe && !evict(index, now)) {
+            return overflowBuckets[index];
+        }
+        return stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    // idleTimeout 동안 쓰이지 않은 키만 지운다. 이런 키는 이미 토큰이 다 채워져 있어 지워도 제한이 풀리지 않는다.
+    // 지운 뒤에도 가득 차 있으면 가장 먼저 idle 이 되는 시각을 기록해 두고, 그때까지는 새 키가 들어와도 훑지 않는다.
+    private boolean evict(int index, long now) {
+        if (now - nextEvictNanos[index].get() < 0) {
+            return false;
+        }
+
+        Map<String, AtomicLong> stripe = stripes[index];
+        long nextIdle = now + capacityNanos + idleTimeoutNanos;
+        Iterator<AtomicLong> iterator = stripe.values().iterator();
+        while (iterator.hasNext()) {
+            long idleAt = iterator.next().get() + idleTimeoutNanos;
+            if (now - idleAt > 0) {
+                iterator.remove();
+            } else if (idleAt - nextIdle < 0) {
+                nextIdle = idleAt;
+            }
+        }
+
+        if (stripe.size() < maxKeysPerStripe) {
+            return true;
+        }
+        nextEvictNanos[index].set(nextIdle);
+        return false;
+    }
+
+    // ConcurrentHashMap 은 해시의 하위 비트로 버킷을 고르므로, stripe 는 곱셈 해시의 상위 비트로 고른다.
+    // 같은 하위 비트를 쓰면 한 stripe 안의 키들이 일부 버킷에만 몰린다.
+    private int stripeIndex(String key) {
+        if (stripes.length == 1) {
+            return 0;
+        }
+        return (key.hashCode() * 0x9E3779B9) >>> stripeShift;
+    }
+}
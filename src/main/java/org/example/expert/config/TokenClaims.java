@@ -0,0 +1,26 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+@Getter
+public class TokenClaims {
+
+    private final Long userId;
+    private final String email; // compact 토큰이면 null
+    private final UserRole userRole; // compact 토큰이면 null
+    private final int tokenEpoch; // 발급 당시 user 의 토큰 epoch, 없으면 0
+    private final long expiration; // 만료 시각 (epoch millis), 없으면 Long.MAX_VALUE
+
+    public TokenClaims(Long userId, String email, UserRole userRole, int tokenEpoch, long expiration) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.tokenEpoch = tokenEpoch;
+        this.expiration = expiration;
+    }
+
+    public boolean isCompact() {
+        return userRole == null;
+    }
+}
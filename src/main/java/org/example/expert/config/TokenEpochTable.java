@@ -0,0 +1,131 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.repository.UserTokenEpoch;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * userId 별 현재 토큰 epoch 를 메모리에 들고 있는 테이블.
+ * <p>
+ * 권한이나 비밀번호가 바뀌면 epoch 가 올라가고, 그보다 낮은 epoch 로 발급된 토큰은 더 이상 받지 않는다.
+ * 요청마다 DB 를 조회하지 않도록 시작할 때 epoch 가 0 이 아닌 user 만 읽어 두고, 이후에는 변경 시점에 갱신한다.
+ * userId 는 스레드마다 {@link PersistenceConfig#ID_BLOCK_SIZE} 개씩 미리 받아 둔 블록에서 발급되므로
+ * 재시작이나 쓰이지 않은 블록만큼 빈 구간이 생긴다. 그래서 userId 를 인덱스로 쓰되 4096개 단위 페이지로 나눠,
+ * epoch 가 있는 user 가 하나라도 있는 페이지만 int 배열을 만든다. 페이지로 담기에 너무 큰 id 만 Map 에 보관한다.
+ */
+@Slf4j(topic = "TokenEpochTable")
+@Component
+public class TokenEpochTable {
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+    private static final int INITIAL_PAGE_COUNT = 16;
+    private static final long MAX_PAGED_ID = 1L << 31; // 페이지 목록은 최대 2^19 칸(참조 2~4MB)까지만 키운다.
+
+    private final UserRepository userRepository;
+    private volatile AtomicReferenceArray<AtomicIntegerArray> pages = new AtomicReferenceArray<>(INITIAL_PAGE_COUNT);
+    private final Map<Long, Integer> overflow = new ConcurrentHashMap<>();
+
+    public TokenEpochTable(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        int count = 0;
+        for (UserTokenEpoch userTokenEpoch : userRepository.findAllByTokenEpochGreaterThan(0)) {
+            update(userTokenEpoch.getId(), userTokenEpoch.getTokenEpoch());
+            count++;
+        }
+        log.info("token epoch {}건을 불러왔습니다.", count);
+    }
+
+    public int get(long userId) {
+        if (userId < 0 || userId >= MAX_PAGED_ID) {
+            return overflow.getOrDefault(userId, 0);
+        }
+
+        AtomicReferenceArray<AtomicIntegerArray> current = pages;
+        int pageIndex = (int) (userId >>> PAGE_SHIFT);
+        if (pageIndex >= current.length()) {
+            return 0;
+        }
+        AtomicIntegerArray page = current.get(pageIndex);
+        return page == null ? 0 : page.get((int) userId & PAGE_MASK);
+    }
+
+    // epoch 를 올린 트랜잭션 안에서 호출한다. 커밋이 실패했는데 epoch 만 올라가 있으면 이후 발급된 토큰이 모두 거절되므로,
+    // 커밋된 뒤에 반영한다.
+    public void updateAfterCommit(long userId, int epoch) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update(userId, epoch);
+                }
+            });
+            return;
+        }
+        update(userId, epoch);
+    }
+
+    // epoch 는 줄어들지 않는다. 늦게 도착한 갱신이 최신 값을 덮어쓰지 않도록 더 큰 값만 반영한다.
+    public synchronized void update(long userId, int epoch) {
+        if (userId < 0) {
+            return;
+        }
+        if (userId >= MAX_PAGED_ID) {
+            overflow.merge(userId, epoch, Math::max);
+            return;
+        }
+
+        AtomicIntegerArray page = page((int) (userId >>> PAGE_SHIFT));
+        int offset = (int) userId & PAGE_MASK;
+        if (page.get(offset) < epoch) {
+            page.set(offset, epoch);
+        }
+    }
+
+    int allocatedPages() {
+        AtomicReferenceArray<AtomicIntegerArray> current = pages;
+        int count = 0;
+        for (int i = 0; i < current.length(); i++) {
+            if (current.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private AtomicIntegerArray page(int pageIndex) {
+        AtomicReferenceArray<AtomicIntegerArray> current = pages;
+        if (pageIndex >= current.length()) {
+            int pageCount = current.length();
+            while (pageCount <= pageIndex) {
+                pageCount <<= 1;
+            }
+            AtomicReferenceArray<AtomicIntegerArray> grown = new AtomicReferenceArray<>(pageCount);
+            for (int i = 0; i < current.length(); i++) {
+                grown.set(i, current.get(i));
+            }
+            pages = grown;
+            current = grown;
+        }
+
+        AtomicIntegerArray page = current.get(pageIndex);
+        if (page == null) {
+            page = new AtomicIntegerArray(1 << PAGE_SHIFT);
+            current.set(pageIndex, page);
+        }
+        return page;
+    }
+}
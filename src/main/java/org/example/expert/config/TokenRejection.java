@@ -0,0 +1,27 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * JwtFilter 가 요청을 거절하는 이유와 그때 내려줄 상태 코드, 메시지.
+ */
+@Getter
+public enum TokenRejection {
+    MISSING_TOKEN(HttpStatus.BAD_REQUEST, "JWT 토큰이 필요합니다."),
+    INVALID_SIGNATURE(HttpStatus.UNAUTHORIZED, "유효하지 않는 JWT 서명입니다."),
+    EXPIRED(HttpStatus.UNAUTHORIZED, "만료된 JWT 토큰입니다."),
+    REVOKED(HttpStatus.UNAUTHORIZED, "더 이상 유효하지 않은 JWT 토큰입니다."),
+    UNSUPPORTED(HttpStatus.BAD_REQUEST, "지원되지 않는 JWT 토큰입니다."),
+    INVALID_TOKEN(HttpStatus.BAD_REQUEST, "유효하지 않는 JWT 토큰입니다."),
+    FORBIDDEN(HttpStatus.FORBIDDEN, "관리자 권한이 없습니다."),
+    NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 경로를 찾을 수 없습니다.");
+
+    private final HttpStatus status;
+    private final String message;
+
+    TokenRejection(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+
+/**
+ * 토큰 검증 결과. 예외를 던지지 않고 성공이면 claims 를, 실패면 거절 이유를 담는다.
+ */
+@Getter
+public class TokenVerification {
+
+    // 거절 결과는 이유별로 하나씩만 만들어 둔다.
+    private static final TokenVerification[] REJECTED = new TokenVerification[TokenRejection.values().length];
+
+    static {
+        for (TokenRejection rejection : TokenRejection.values()) {
+            REJECTED[rejection.ordinal()] = new TokenVerification(null, rejection);
+        }
+    }
+
+    private final TokenClaims claims;
+    private final TokenRejection rejection;
+
+    private TokenVerification(TokenClaims claims, TokenRejection rejection) {
+        this.claims = claims;
+        this.rejection = rejection;
+    }
+
+    public static TokenVerification valid(TokenClaims claims) {
+        return new TokenVerification(claims, null);
+    }
+
+    public static TokenVerification rejected(TokenRejection rejection) {
+        return REJECTED[rejection.ordinal()];
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+}
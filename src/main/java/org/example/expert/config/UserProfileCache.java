@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * compact 토큰에는 email 과 userRole 이 없으므로, 핸들러가 필요로 할 때 userId 로 찾아 쓰는 user 프로필 캐시.
+ * <p>
+ * 권한이 바뀌면 {@link TokenEpochTable} 의 epoch 가 올라가므로, 보관한 epoch 가 현재 epoch 보다 낮은 프로필은 다시 읽는다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+    private final TokenEpochTable tokenEpochTable;
+    private final BoundedMap<Long, CachedProfile> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserProfileCache(
+            UserRepository userRepository,
+            TokenEpochTable tokenEpochTable,
+            @Value("${jwt.profile-cache.max-size:10000}") int maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.tokenEpochTable = tokenEpochTable;
+        this.entries = new BoundedMap<>(maxSize);
+        this.hitCounter = meterRegistry.counter("user.profile.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("user.profile.cache.requests", "result", "miss");
+        Gauge.builder("user.profile.cache.size", entries, BoundedMap::size).register(meterRegistry);
+    }
+
+    // email, userRole 을 처음 꺼낼 때 이 캐시에서 읽어 오는 AuthUser
+    public AuthUser lazyAuthUser(long userId) {
+        return AuthUser.lazy(userId, () -> get(userId));
+    }
+
+    public AuthUser get(long userId) {
+        CachedProfile cached = entries.get(userId);
+        if (cached != null && cached.tokenEpoch() >= tokenEpochTable.get(userId)) {
+            hitCounter.increment();
+            return cached.authUser();
+        }
+
+        missCounter.increment();
+        User user = userRepository.findById(userId).orElseThrow(
+                () -> new AuthException("가입되지 않은 유저입니다."));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+
+        entries.put(userId, new CachedProfile(authUser, user.getTokenEpoch()));
+        return authUser;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record CachedProfile(AuthUser authUser, int tokenEpoch) {
+    }
+}
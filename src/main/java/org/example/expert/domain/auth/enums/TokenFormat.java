@@ -0,0 +1,17 @@
+package org.example.expert.domain.auth.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+public enum TokenFormat {
+    FULL, // userId, email, userRole, epoch, 만료 시각
+    COMPACT; // userId, epoch, 만료 시각만 담는다. email, userRole 은 필요할 때 조회한다.
+
+    public static TokenFormat of(String format) {
+        return Arrays.stream(TokenFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 토큰 형식입니다."));
+    }
+}
@@ -2,17 +2,20 @@ package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashExecutor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.enums.TokenFormat;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -20,42 +23,65 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AuthService {
 
+    private static final String DUPLICATE_EMAIL_MESSAGE = "이미 존재하는 이메일입니다.";
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
     private final JwtUtil jwtUtil;
 
-    @Transactional
+    // 비밀번호 해싱을 기다리는 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 해싱하고,
+    // 중복 확인과 저장은 repository 의 트랜잭션에서 각각 짧게 한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // Bloom filter 에 없는 이메일은 가입된 적이 없으므로 exists 쿼리를 건너뜁니다.
+        String email = signupRequest.getEmail();
+        if (userRepository.mightExistByEmail(email) && userRepository.existsByEmail(email)) {
+            throw new InvalidRequestException(DUPLICATE_EMAIL_MESSAGE);
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = passwordHashExecutor.encode(signupRequest.getPassword());
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
         User newUser = new User(
-                signupRequest.getEmail(),
+                email,
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+
+        // 동시에 같은 이메일로 가입하거나 다른 서버에서 가입한 경우는 email unique 제약으로 막습니다.
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException(DUPLICATE_EMAIL_MESSAGE);
+        }
+        userRepository.registerEmail(savedUser.getEmail());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
         return new SignupResponse(bearerToken);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
+        return signin(signinRequest, TokenFormat.FULL);
+    }
+
+    // signup 과 같은 이유로 user 조회만 repository 의 트랜잭션에서 하고, 비밀번호 비교는 트랜잭션 밖에서 한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SigninResponse signin(SigninRequest signinRequest, TokenFormat tokenFormat) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+        if (!passwordHashExecutor.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String bearerToken = tokenFormat == TokenFormat.COMPACT
+                ? jwtUtil.createCompactToken(user.getId())
+                : jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
     }
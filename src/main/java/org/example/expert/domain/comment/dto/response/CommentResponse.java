@@ -15,4 +15,9 @@ public class CommentResponse {
         this.contents = contents;
         this.user = user;
     }
+
+    // CommentRepository 의 프로젝션 쿼리에서 사용한다.
+    public CommentResponse(Long id, String contents, Long userId, String userEmail) {
+        this(id, contents, new UserResponse(userId, userEmail));
+    }
 }
@@ -0,0 +1,7 @@
+package org.example.expert.domain.comment.repository;
+
+public interface CommentSearchSource {
+    Long getId();
+    Long getTodoId();
+    String getContents();
+}
@@ -2,6 +2,10 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.repository.CommentSearchSource;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoPageCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,9 +14,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final TodoPageCache todoPageCache;
+    private final TodoSearchIndex todoSearchIndex;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        CommentSearchSource comment = commentRepository.findSearchSourceById(commentId).orElse(null);
+        // 실제로 지운 경우에만 개수를 빼서, 같은 댓글을 두 번 지워도 한 번만 빠지게 한다.
+        if (commentRepository.deleteCommentById(commentId) == 0 || comment == null) {
+            return;
+        }
+        todoRepository.addCommentCount(comment.getTodoId(), -1);
+        todoPageCache.invalidate();
+        todoSearchIndex.removeComment(commentId, comment.getTodoId(), comment.getContents());
     }
 }
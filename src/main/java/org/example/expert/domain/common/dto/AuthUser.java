@@ -3,16 +3,54 @@ package org.example.expert.domain.common.dto;
 import lombok.Getter;
 import org.example.expert.domain.user.enums.UserRole;
 
-@Getter
+import java.util.function.Supplier;
+
 public class AuthUser {
 
+    @Getter
     private final Long id;
     private final String email;
     private final UserRole userRole;
 
+    // compact 토큰처럼 id 만 알고 있을 때, email 과 userRole 을 처음 꺼내는 시점에 읽어 온다.
+    private final Supplier<AuthUser> profileLoader;
+    private volatile AuthUser profile;
+
     public AuthUser(Long id, String email, UserRole userRole) {
         this.id = id;
         this.email = email;
         this.userRole = userRole;
+        this.profileLoader = null;
+    }
+
+    private AuthUser(Long id, Supplier<AuthUser> profileLoader) {
+        this.id = id;
+        this.email = null;
+        this.userRole = null;
+        this.profileLoader = profileLoader;
+    }
+
+    public static AuthUser lazy(Long id, Supplier<AuthUser> profileLoader) {
+        return new AuthUser(id, profileLoader);
+    }
+
+    public String getEmail() {
+        return profile().email;
+    }
+
+    public UserRole getUserRole() {
+        return profile().userRole;
+    }
+
+    private AuthUser profile() {
+        if (profileLoader == null) {
+            return this;
+        }
+        AuthUser loaded = profile;
+        if (loaded == null) {
+            loaded = profileLoader.get();
+            profile = loaded;
+        }
+        return loaded;
     }
 }
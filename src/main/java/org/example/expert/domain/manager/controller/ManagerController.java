@@ -8,8 +8,10 @@ import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.service.TodoVersionService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +20,7 @@ import java.util.List;
 public class ManagerController {
 
     private final ManagerService managerService;
+    private final TodoVersionService todoVersionService;
 
     @PostMapping("/todos/{todoId}/managers")
     public ResponseEntity<ManagerSaveResponse> saveManager(
@@ -28,8 +31,13 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.saveManager(authUser, todoId, managerSaveRequest));
     }
 
+    // If-None-Match 가 지금 버전과 같으면 목록을 읽지 않고 304 로 응답한다.
     @GetMapping("/todos/{todoId}/managers")
-    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
+    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId, WebRequest request) {
+        String eTag = todoVersionService.getETag(todoId, "managers");
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity.ok(managerService.getManagers(todoId));
     }
 
@@ -13,4 +13,9 @@ public class ManagerResponse {
         this.id = id;
         this.user = user;
     }
+
+    // ManagerRepository 의 프로젝션 쿼리에서 사용한다.
+    public ManagerResponse(Long id, Long userId, String userEmail) {
+        this(id, new UserResponse(userId, userEmail));
+    }
 }
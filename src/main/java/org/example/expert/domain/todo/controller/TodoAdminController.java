@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.AdminLogger;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@AdminLogger
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoSearchIndex todoSearchIndex;
+
+    // 검색 색인을 DB 에서 다시 만든다.
+    @PostMapping("/admin/todos/search/reindex")
+    public void reindexTodos() {
+        todoSearchIndex.rebuild();
+    }
+}
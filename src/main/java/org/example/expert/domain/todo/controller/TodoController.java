@@ -4,19 +4,32 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoDetailService;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoVersionService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoDetailService todoDetailService;
+    private final TodoVersionService todoVersionService;
+    private final TodoBatchService todoBatchService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +39,78 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 여러 todo 를 한 번에 등록한다. 항목마다 결과를 돌려주며, 잘못된 항목이 있어도 나머지는 등록한다.
+    @PostMapping("/todos/batch")
+    public ResponseEntity<TodoBatchSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoBatchService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
+    // weather, userId, startDate, endDate(yyyy-MM-dd) 로 거를 수 있으며, 다른 모드에도 같이 적용된다.
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @ModelAttribute TodoSearchCondition condition
+    ) {
+        TodoService.checkPage(page, size);
+        return ResponseEntity.ok(todoService.getTodos(page, size, condition));
+    }
+
+    // 전체 건수가 정확하지 않아도 되는 화면은 mode=slice 로 count 쿼리 없이 조회한다.
+    @GetMapping(value = "/todos", params = "mode=slice")
+    public ResponseEntity<TodoSliceResponse> getTodoSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @ModelAttribute TodoSearchCondition condition
+    ) {
+        TodoService.checkPage(page, size);
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size, condition));
+    }
+
+    // mode=cursor 로 첫 페이지를 받고, 이후에는 응답의 nextCursor 를 cursor 로 넘긴다.
+    @GetMapping(value = "/todos", params = "mode=cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @ModelAttribute TodoSearchCondition condition
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, condition));
+    }
+
+    // 제목, 내용, 댓글에서 q 의 모든 단어를 포함한 todo 를 관련도 순으로 찾는다. 다음 페이지는 nextCursor 를 cursor 로 넘긴다.
+    @GetMapping("/todos/search")
+    public ResponseEntity<TodoCursorResponse> searchTodos(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.searchTodos(q, cursor, size));
     }
 
+    // If-None-Match 가 지금 버전과 같으면 todo 를 읽지 않고 304 로 응답한다.
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest request) {
+        String eTag = todoVersionService.getETag(todoId, "todo");
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    // todo, 작성자, 담당자, 댓글 첫 페이지(commentSize 건)를 한 번에 응답한다.
+    @GetMapping("/todos/{todoId}/detail")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = "10") int commentSize,
+            WebRequest request
+    ) {
+        String eTag = todoVersionService.getETag(todoId, "detail");
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok(todoDetailService.getTodoDetail(todoId, commentSize));
+    }
 }
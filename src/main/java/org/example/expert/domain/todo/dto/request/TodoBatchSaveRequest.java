@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 항목은 요청 전체가 아니라 하나씩 검사해 결과에 담으므로 @Valid 를 붙이지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchSaveRequest {
+
+    private List<TodoSaveRequest> todos;
+}
@@ -0,0 +1,50 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션에서 마지막으로 응답한 todo 의 (modifiedAt, id).
+ * 클라이언트에는 값을 그대로 노출하지 않고 20바이트를 base64url 로 인코딩한 문자열로 넘긴다.
+ */
+@Getter
+public class TodoCursor {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    private final LocalDateTime modifiedAt;
+    private final long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public static TodoCursor decode(String cursor) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.remaining() != ENCODED_BYTES) {
+                throw new InvalidRequestException("유효하지 않은 커서입니다.");
+            }
+            LocalDateTime modifiedAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new TodoCursor(modifiedAt, buffer.getLong());
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(modifiedAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(modifiedAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * todo 목록 필터. 값이 없는 조건은 적용하지 않는다.
+ * 수정일 범위는 startDate 00:00 부터 endDate 다음 날 00:00 전까지이다.
+ */
+@Getter
+public class TodoSearchCondition {
+
+    private final String weather;
+    private final Long userId; // 작성자
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public TodoSearchCondition(
+            String weather,
+            Long userId,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        this.weather = weather == null || weather.isBlank() ? null : weather;
+        this.userId = userId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public static TodoSearchCondition none() {
+        return new TodoSearchCondition(null, null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return weather == null && userId == null && startDate == null && endDate == null;
+    }
+}
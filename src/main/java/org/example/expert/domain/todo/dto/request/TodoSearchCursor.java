@@ -0,0 +1,44 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 검색 결과 페이지네이션에서 마지막으로 응답한 todo 의 (점수, id).
+ * 점수는 색인에 문서가 추가되면 조금씩 바뀔 수 있으므로, 그 사이에는 결과가 겹치거나 빠질 수 있다.
+ */
+@Getter
+public class TodoSearchCursor {
+
+    private static final int ENCODED_BYTES = Float.BYTES + Long.BYTES;
+
+    private final float score;
+    private final long id;
+
+    public TodoSearchCursor(float score, long id) {
+        this.score = score;
+        this.id = id;
+    }
+
+    public static TodoSearchCursor decode(String cursor) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.remaining() != ENCODED_BYTES) {
+                throw new InvalidRequestException("유효하지 않은 커서입니다.");
+            }
+            return new TodoSearchCursor(buffer.getFloat(), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putFloat(score)
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
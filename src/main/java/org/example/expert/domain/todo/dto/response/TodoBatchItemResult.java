@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBatchItemResult {
+
+    public enum Status {
+        CREATED,
+        INVALID, // 검사에 실패해 저장하지 않았다.
+        FAILED // 같은 묶음을 저장하다 실패해 묶음 전체가 롤백되었다. 다시 보내도 된다.
+    }
+
+    private final int index; // 요청 todos 에서의 순서
+    private final Status status;
+    private final Long id; // CREATED 일 때만
+    private final String message; // CREATED 가 아닐 때만
+
+    private TodoBatchItemResult(int index, Status status, Long id, String message) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+    }
+
+    public static TodoBatchItemResult created(int index, long id) {
+        return new TodoBatchItemResult(index, Status.CREATED, id, null);
+    }
+
+    public static TodoBatchItemResult invalid(int index, String message) {
+        return new TodoBatchItemResult(index, Status.INVALID, null, message);
+    }
+
+    public static TodoBatchItemResult failed(int index, String message) {
+        return new TodoBatchItemResult(index, Status.FAILED, null, message);
+    }
+}
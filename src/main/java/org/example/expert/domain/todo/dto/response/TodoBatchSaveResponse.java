@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchSaveResponse {
+
+    private final int createdCount;
+    private final int failedCount; // INVALID + FAILED
+    private final String weather; // 저장한 todo 에 공통으로 들어간 날씨. 나중에 채운다면 null
+    private final List<TodoBatchItemResult> results; // 요청과 같은 순서
+
+    public TodoBatchSaveResponse(String weather, List<TodoBatchItemResult> results) {
+        int created = (int) results.stream().filter(result -> result.getStatus() == TodoBatchItemResult.Status.CREATED).count();
+        this.createdCount = created;
+        this.failedCount = results.size() - created;
+        this.weather = weather;
+        this.results = results;
+    }
+}
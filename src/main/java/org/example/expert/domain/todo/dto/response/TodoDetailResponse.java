@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+@Getter
+public class TodoDetailResponse {
+
+    private final TodoResponse todo;
+    private final List<ManagerResponse> managers;
+    private final List<CommentResponse> comments; // 오래된 순으로 첫 페이지
+    private final boolean hasMoreComments;
+
+    public TodoDetailResponse(TodoResponse todo, List<ManagerResponse> managers, List<CommentResponse> comments, boolean hasMoreComments) {
+        this.todo = todo;
+        this.managers = managers;
+        this.comments = comments;
+        this.hasMoreComments = hasMoreComments;
+    }
+}
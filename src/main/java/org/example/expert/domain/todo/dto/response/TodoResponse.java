@@ -12,17 +12,28 @@ public class TodoResponse {
     private final String title;
     private final String contents;
     private final String weather;
+    private final boolean weatherPending; // true 면 날씨를 아직 채우는 중이며 weather 는 null
+    private final int commentCount;
+    private final int managerCount;
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
 
-    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public TodoResponse(Long id, String title, String contents, String weather, boolean weatherPending, int commentCount, int managerCount, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherPending = weatherPending;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    // TodoRepository 의 프로젝션 쿼리에서 사용한다.
+    public TodoResponse(Long id, String title, String contents, String weather, boolean weatherPending, int commentCount, int managerCount, Long userId, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, weatherPending, commentCount, managerCount, new UserResponse(userId, userEmail), createdAt, modifiedAt);
+    }
 }
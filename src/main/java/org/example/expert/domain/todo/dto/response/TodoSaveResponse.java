@@ -10,13 +10,15 @@ public class TodoSaveResponse {
     private final String title;
     private final String contents;
     private final String weather;
+    private final boolean weatherPending; // true 면 날씨를 아직 채우는 중이며 weather 는 null
     private final UserResponse user;
 
-    public TodoSaveResponse(Long id, String title, String contents, String weather, UserResponse user) {
+    public TodoSaveResponse(Long id, String title, String contents, String weather, boolean weatherPending, UserResponse user) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherPending = weatherPending;
         this.user = user;
     }
 }
@@ -3,6 +3,8 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.example.expert.config.PersistenceConfig;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -14,14 +16,35 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_weather_pending", columnList = "weatherPending"),
+        @Index(name = "idx_todos_modified_at_id", columnList = "modifiedAt DESC, id DESC"), // 목록 조회 정렬, 커서 페이지네이션
+        // 목록 필터 (TodoFilterRepositoryImpl). 같음 조건 뒤에 정렬 컬럼을 두어 정렬 없이 읽는다.
+        @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modifiedAt DESC, id DESC"),
+        @Index(name = "idx_todos_user_modified_at_id", columnList = "user_id, modifiedAt DESC, id DESC"),
+        @Index(name = "idx_todos_user_weather_modified_at_id", columnList = "user_id, weather, modifiedAt DESC, id DESC")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", allocationSize = PersistenceConfig.ID_BLOCK_SIZE)
     private Long id;
     private String title;
     private String contents;
     private String weather;
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean weatherPending; // 날씨 없이 먼저 저장되어 TodoWeatherEnricher 가 채워야 하는 todo
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version; // todo, 댓글, 담당자 중 하나라도 바뀌면 올라간다. 조회 응답의 ETag 로 쓴다.
+    // 목록에서 댓글, 담당자를 읽지 않도록 개수를 따로 들고 있는다. TodoRepository 의 UPDATE 로만 바꾼다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int commentCount;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int managerCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -37,7 +60,9 @@ public class Todo extends Timestamped {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherPending = weather == null;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1; // 작성자는 담당자로 함께 저장된다.
     }
 }
@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 todo 와 작성자 담당자 행을 JDBC 배치로 넣는다.
+ * <p>
+ * id 는 엔티티와 같은 Hibernate id 생성기에서 받으므로 JPA 로 저장한 행과 겹치지 않고, 생성 키를 다시 읽지 않는다.
+ * todos, managers 를 배치 한 번씩으로 보낸다. MySQL 에서는 rewriteBatchedStatements=true 여야 배치가 여러 행 INSERT 하나로 바뀐다.
+ * <p>
+ * 엔티티를 거치지 않으므로 Todo 생성자와 Timestamped 가 채우던 값을 여기서 같이 채운다. 호출한 쪽의 트랜잭션에서 실행된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoBulkRepository {
+
+    private static final String INSERT_TODO = "INSERT INTO todos " +
+            "(id, title, contents, weather, weather_pending, version, comment_count, manager_count, user_id, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, 0, 1, ?, ?, ?)";
+    private static final String INSERT_MANAGER = "INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 넣은 순서대로 todo id 를 반환한다.
+    public List<Long> insertTodos(List<TodoSaveRequest> todos, String weather, long userId, LocalDateTime now) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator todoIdGenerator = idGenerator(session, Todo.class);
+        BeforeExecutionGenerator managerIdGenerator = idGenerator(session, Manager.class);
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Long> ids = new ArrayList<>(todos.size());
+        List<Object[]> todoRows = new ArrayList<>(todos.size());
+        List<Object[]> managerRows = new ArrayList<>(todos.size());
+        for (TodoSaveRequest todo : todos) {
+            long id = nextId(session, todoIdGenerator);
+            ids.add(id);
+            todoRows.add(new Object[]{id, todo.getTitle(), todo.getContents(), weather, weather == null, userId, timestamp, timestamp});
+            managerRows.add(new Object[]{nextId(session, managerIdGenerator), userId, id});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TODO, todoRows);
+        jdbcTemplate.batchUpdate(INSERT_MANAGER, managerRows);
+        return ids;
+    }
+
+    private static BeforeExecutionGenerator idGenerator(SharedSessionContractImplementor session, Class<?> entityClass) {
+        return (BeforeExecutionGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(entityClass).getGenerator();
+    }
+
+    private static long nextId(SharedSessionContractImplementor session, BeforeExecutionGenerator generator) {
+        return ((Number) generator.generate(session, null, null, EventType.INSERT)).longValue();
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.util.List;
+
+public interface TodoFilterRepository {
+    // (modifiedAt, id) 내림차순으로 조건에 맞는 todo 를 읽는다. after 가 있다면 그 다음부터 읽는다.
+    List<TodoResponse> findFiltered(TodoSearchCondition condition, TodoCursor after, long offset, int limit);
+    long countFiltered(TodoSearchCondition condition);
+}
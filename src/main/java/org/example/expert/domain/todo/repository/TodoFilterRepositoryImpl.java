@@ -0,0 +1,112 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 필터 조건은 모두 인덱스를 탈 수 있는 형태로만 만든다.
+ * <ul>
+ *     <li>weather, userId 는 같음 비교로, Todo 의 (weather | user_id | user_id, weather) + (modifiedAt, id) 인덱스의 앞쪽 컬럼이 된다.</li>
+ *     <li>날짜는 컬럼에 함수를 씌우지 않고 modifiedAt 의 범위 조건으로 바꾼다.</li>
+ * </ul>
+ * 정렬도 인덱스와 같은 컬럼 순서로 맞추므로 정렬 없이 필요한 만큼만 읽는다.
+ */
+public class TodoFilterRepositoryImpl implements TodoFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TodoResponse> findFiltered(TodoSearchCondition condition, TodoCursor after, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TodoResponse> query = cb.createQuery(TodoResponse.class);
+        Root<Todo> todo = query.from(Todo.class);
+        // user_id 는 not null 이라 결과는 내부 조인과 같고, todos 를 먼저 읽도록 고정한다.
+        Join<Todo, User> user = todo.join("user", JoinType.LEFT);
+
+        List<Predicate> predicates = predicates(cb, todo, condition);
+        if (after != null) {
+            Path<LocalDateTime> modifiedAt = todo.get("modifiedAt");
+            predicates.add(cb.lessThanOrEqualTo(modifiedAt, after.getModifiedAt()));
+            predicates.add(cb.or(
+                    cb.lessThan(modifiedAt, after.getModifiedAt()),
+                    cb.lessThan(todo.get("id"), after.getId())
+            ));
+        }
+
+        query.select(cb.construct(TodoResponse.class,
+                        todo.get("id"), todo.get("title"), todo.get("contents"), todo.get("weather"), todo.get("weatherPending"),
+                        todo.get("commentCount"), todo.get("managerCount"),
+                        user.get("id"), user.get("email"), todo.get("createdAt"), todo.get("modifiedAt")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orders(cb, todo, condition));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countFiltered(TodoSearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Todo> todo = query.from(Todo.class);
+
+        query.select(cb.count(todo))
+                .where(predicates(cb, todo, condition).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // 같음 조건 컬럼은 값이 하나뿐이라 정렬 결과는 그대로지만, ORDER BY 가 인덱스 컬럼 순서와 같아져야 정렬을 인덱스로 대신한다.
+    private static List<Order> orders(CriteriaBuilder cb, Root<Todo> todo, TodoSearchCondition condition) {
+        List<Order> orders = new ArrayList<>();
+        if (condition.getUserId() != null) {
+            orders.add(cb.asc(todo.get("user").get("id")));
+        }
+        if (condition.getWeather() != null) {
+            orders.add(cb.asc(todo.get("weather")));
+        }
+        orders.add(cb.desc(todo.get("modifiedAt")));
+        orders.add(cb.desc(todo.get("id")));
+        return orders;
+    }
+
+    private static List<Predicate> predicates(CriteriaBuilder cb, Root<Todo> todo, TodoSearchCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.getWeather() != null) {
+            predicates.add(cb.equal(todo.get("weather"), condition.getWeather()));
+        }
+        if (condition.getUserId() != null) {
+            // user 를 조인하지 않고 todos.user_id 로 비교한다.
+            predicates.add(cb.equal(todo.get("user").get("id"), condition.getUserId()));
+        }
+        if (condition.getStartDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(todo.get("modifiedAt"), condition.getStartDate().atStartOfDay()));
+        }
+        if (condition.getEndDate() != null) {
+            predicates.add(cb.lessThan(todo.get("modifiedAt"), condition.getEndDate().plusDays(1).atStartOfDay()));
+        }
+        return predicates;
+    }
+}
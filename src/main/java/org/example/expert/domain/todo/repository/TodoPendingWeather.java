@@ -0,0 +1,8 @@
+package org.example.expert.domain.todo.repository;
+
+import java.time.LocalDateTime;
+
+public interface TodoPendingWeather {
+    Long getId();
+    LocalDateTime getCreatedAt();
+}
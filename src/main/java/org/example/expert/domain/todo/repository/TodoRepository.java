@@ -1,18 +1,71 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoFilterRepository {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 목록 조회는 엔티티 대신 응답에 필요한 컬럼만 읽어 TodoResponse 로 바로 만든다.
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, t.weatherPending, t.commentCount, t.managerCount, " +
+            "u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findAllByOrderByModifiedAtDesc(Pageable pageable);
+
+    // count 쿼리 없이 size + 1 건을 읽어 다음 페이지가 있는지만 확인한다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findSliceByOrderByModifiedAtDesc(Pageable pageable);
+
+    // 커서 페이지네이션의 첫 페이지. OFFSET 없이 (modifiedAt, id) 인덱스를 앞에서부터 읽는다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstPage(Pageable pageable);
+
+    // 커서 다음부터 읽는다. modifiedAt <= :modifiedAt 조건으로 인덱스 범위를 좁히고, 같은 시각이면 id 로 이어 간다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(TODO_RESPONSE +
+            "WHERE t.modifiedAt <= :modifiedAt AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findPageAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(TODO_RESPONSE + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findResponseById(@Param("todoId") Long todoId);
+
+    // 검색 결과처럼 id 로 고른 todo 를 읽는다. 순서는 보장하지 않는다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(TODO_RESPONSE + "WHERE t.id IN :todoIds")
+    List<TodoResponse> findResponsesByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 검색 색인을 다시 만들 때 전체 todo 를 한 번에 올리지 않고 fetch size 만큼씩 읽는다. 트랜잭션 안에서 닫아야 한다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000")
+    })
+    @Query("SELECT t.id AS id, t.title AS title, t.contents AS contents FROM Todo t")
+    Stream<TodoSearchSource> streamSearchSources();
 
     @Query("SELECT t FROM Todo t " +
             "LEFT JOIN FETCH t.user " +
@@ -20,4 +73,47 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    @Query("SELECT t.id AS id, t.createdAt AS createdAt FROM Todo t " +
+            "WHERE t.weatherPending = true AND t.id > :afterId ORDER BY t.id")
+    List<TodoPendingWeather> findPendingWeather(@Param("afterId") long afterId, Pageable pageable);
+
+    // 날씨를 채우는 것은 사용자의 수정이 아니므로 modifiedAt 은 바꾸지 않고, 응답은 바뀌므로 version 은 올린다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.weather = :weather, t.weatherPending = false, t.version = t.version + 1 " +
+            "WHERE t.id IN :todoIds AND t.weatherPending = true")
+    int fillWeather(@Param("todoIds") List<Long> todoIds, @Param("weather") String weather);
+
+    // 엔티티를 읽지 않고 버전만 읽어 If-None-Match 를 확인한다.
+    @Query("SELECT t.version FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findVersionById(@Param("todoId") Long todoId);
+
+    // 댓글, 담당자를 저장 / 삭제한 트랜잭션에서 호출한다. 읽어서 더하지 않고 UPDATE 한 번으로 더하므로
+    // 동시에 바뀌어도 빠지는 변경이 없고, 커밋될 때 댓글 / 담당자 행과 함께 반영된다. ETag 가 바뀌도록 version 도 올린다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta, t.version = t.version + 1 WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta, t.version = t.version + 1 WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    // 개수를 맞출 다음 범위. PK 인덱스만 읽는다.
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    // id 범위 안에서 개수가 실제와 다른 todo 만 고치고, 고친 건수를 반환한다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id), " +
+            "t.version = t.version + 1 " +
+            "WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND (t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) " +
+            "OR t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id))")
+    int reconcileCounters(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.repository;
+
+public interface TodoSearchSource {
+    Long getId();
+    String getTitle();
+    String getContents();
+}
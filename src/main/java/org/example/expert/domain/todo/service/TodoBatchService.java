@@ -0,0 +1,149 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.repository.TodoBulkRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 todo 를 한 요청으로 등록한다.
+ * <ul>
+ *     <li>저장 전에 모든 항목을 검사한다. 잘못된 항목은 INVALID 로 돌려주고 나머지는 저장한다.</li>
+ *     <li>날씨는 요청마다 한 번만 조회해 모든 todo 에 넣는다. todo.weather.async 라면 조회하지 않고 나중에 채운다.</li>
+ *     <li>chunk-size 건씩 트랜잭션을 나누어 {@link TodoBulkRepository} 로 넣는다.
+ *     한 묶음이 실패하면 그 묶음만 롤백되어 FAILED 가 되고, 이미 커밋된 묶음과 다음 묶음은 그대로 진행한다.</li>
+ * </ul>
+ */
+@Slf4j(topic = "TodoBatchService")
+@Service
+public class TodoBatchService {
+
+    private final TodoBulkRepository todoBulkRepository;
+    private final WeatherClient weatherClient;
+    private final TodoCountCache todoCountCache;
+    private final TodoPageCache todoPageCache;
+    private final TodoSearchIndex todoSearchIndex;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean asyncWeather;
+    private final int chunkSize;
+    private final int maxSize;
+
+    public TodoBatchService(
+            TodoBulkRepository todoBulkRepository,
+            WeatherClient weatherClient,
+            TodoCountCache todoCountCache,
+            TodoPageCache todoPageCache,
+            TodoSearchIndex todoSearchIndex,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.weather.async:false}") boolean asyncWeather,
+            @Value("${todo.batch.chunk-size:500}") int chunkSize,
+            @Value("${todo.batch.max-size:5000}") int maxSize
+    ) {
+        this.todoBulkRepository = todoBulkRepository;
+        this.weatherClient = weatherClient;
+        this.todoCountCache = todoCountCache;
+        this.todoPageCache = todoPageCache;
+        this.todoSearchIndex = todoSearchIndex;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.asyncWeather = asyncWeather;
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+    }
+
+    public TodoBatchSaveResponse saveTodos(AuthUser authUser, TodoBatchSaveRequest request) {
+        List<TodoSaveRequest> todos = request.getTodos();
+        if (todos == null || todos.isEmpty()) {
+            throw new InvalidRequestException("등록할 todo 가 없습니다.");
+        }
+        if (todos.size() > maxSize) {
+            throw new InvalidRequestException("todo 는 한 번에 " + maxSize + "건까지 등록할 수 있습니다.");
+        }
+
+        TodoBatchItemResult[] results = new TodoBatchItemResult[todos.size()];
+        List<Integer> validIndexes = new ArrayList<>(todos.size());
+        for (int i = 0; i < todos.size(); i++) {
+            String error = validate(todos.get(i));
+            if (error == null) {
+                validIndexes.add(i);
+            } else {
+                results[i] = TodoBatchItemResult.invalid(i, error);
+            }
+        }
+        if (validIndexes.isEmpty()) {
+            return new TodoBatchSaveResponse(null, Arrays.asList(results));
+        }
+
+        // 트랜잭션 밖에서 한 번만 조회한다.
+        String weather = asyncWeather ? null : weatherClient.getTodayWeather();
+
+        for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size()));
+            saveChunk(authUser.getId(), todos, chunk, weather, results);
+        }
+        return new TodoBatchSaveResponse(weather, Arrays.asList(results));
+    }
+
+    private void saveChunk(long userId, List<TodoSaveRequest> todos, List<Integer> indexes, String weather, TodoBatchItemResult[] results) {
+        List<TodoSaveRequest> chunk = indexes.stream().map(todos::get).toList();
+        List<Long> ids;
+        try {
+            ids = transactionTemplate.execute(status -> {
+                List<Long> inserted = todoBulkRepository.insertTodos(chunk, weather, userId, LocalDateTime.now());
+                // 색인과 목록 캐시는 커밋된 뒤에 반영된다.
+                for (int i = 0; i < inserted.size(); i++) {
+                    todoSearchIndex.indexTodo(inserted.get(i), chunk.get(i).getTitle(), chunk.get(i).getContents());
+                }
+                todoPageCache.invalidate();
+                return inserted;
+            });
+        } catch (DataAccessException e) {
+            log.warn("todo {}건을 한 번에 저장하지 못했습니다. {}", chunk.size(), e.getMessage());
+            for (int index : indexes) {
+                results[index] = TodoBatchItemResult.failed(index, "저장하지 못했습니다. 다시 시도해 주세요.");
+            }
+            return;
+        }
+
+        todoCountCache.add(ids.size());
+        for (int i = 0; i < indexes.size(); i++) {
+            results[indexes.get(i)] = TodoBatchItemResult.created(indexes.get(i), ids.get(i));
+        }
+    }
+
+    // TodoSaveRequest 의 제약으로 검사하고, 어긋난 필드를 "필드 메시지" 로 이어 붙인다. 통과하면 null
+    private String validate(TodoSaveRequest todo) {
+        if (todo == null) {
+            return "todo 가 비어 있습니다.";
+        }
+        Set<ConstraintViolation<TodoSaveRequest>> violations = validator.validate(todo);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 목록 조회마다 COUNT(*) 를 하지 않도록 todo 전체 건수를 메모리에 들고 있는다.
+ * <p>
+ * 저장한 건수는 바로 더하고, 바로 더하지 못한 저장과 삭제는 주기적으로 다시 세어 맞춘다.
+ * 다시 세는 동안 저장된 건수는 한 번 빠지거나 겹칠 수 있으므로 근사값이다.
+ */
+@Slf4j(topic = "TodoCountCache")
+@Component
+public class TodoCountCache {
+
+    private static final long NOT_LOADED = -1;
+
+    private final TodoRepository todoRepository;
+    private final AtomicLong count = new AtomicLong(NOT_LOADED);
+
+    public TodoCountCache(TodoRepository todoRepository, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        Gauge.builder("todo.count.approximate", count, AtomicLong::get).register(meterRegistry);
+    }
+
+    public long get() {
+        long current = count.get();
+        return current == NOT_LOADED ? refresh() : current;
+    }
+
+    public void add(long delta) {
+        // 아직 세지 않았다면 처음 셀 때 함께 세어진다.
+        count.getAndUpdate(current -> current == NOT_LOADED ? NOT_LOADED : current + delta);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count.refresh-interval-millis:60000}")
+    public long refresh() {
+        long counted = todoRepository.count();
+        long previous = count.getAndSet(counted);
+        if (previous != NOT_LOADED && previous != counted) {
+            log.debug("todo 건수를 {} 에서 {} 로 맞췄습니다.", previous, counted);
+        }
+        return counted;
+    }
+}
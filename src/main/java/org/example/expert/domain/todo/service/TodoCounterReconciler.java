@@ -0,0 +1,64 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * todos 의 comment_count, manager_count 를 실제 댓글, 담당자 수와 맞춘다.
+ * <p>
+ * 평소에는 저장, 삭제하는 트랜잭션에서 함께 더하고 빼므로 어긋나지 않지만, DB 를 직접 고쳤거나
+ * 개수 컬럼이 생기기 전에 쌓인 데이터는 다를 수 있다.
+ * id 순으로 배치 크기만큼 범위를 잡고 범위마다 다른 것만 UPDATE 한 번으로 고친다.
+ * 범위마다 트랜잭션이 따로라 todo 행의 잠금을 오래 잡지 않는다.
+ */
+@Slf4j(topic = "TodoCounterReconciler")
+@Component
+public class TodoCounterReconciler {
+
+    private final TodoRepository todoRepository;
+    private final TodoPageCache todoPageCache;
+    private final int batchSize;
+
+    public TodoCounterReconciler(
+            TodoRepository todoRepository,
+            TodoPageCache todoPageCache,
+            @Value("${todo.counter.reconcile-batch-size:1000}") int batchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.todoPageCache = todoPageCache;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${todo.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcileCounters() {
+        reconcile();
+    }
+
+    // 고친 todo 수를 반환한다.
+    int reconcile() {
+        long afterId = 0;
+        int repaired = 0;
+        List<Long> ids;
+        do {
+            ids = todoRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            long lastId = ids.get(ids.size() - 1);
+            repaired += todoRepository.reconcileCounters(ids.get(0), lastId);
+            afterId = lastId;
+        } while (ids.size() == batchSize);
+
+        if (repaired > 0) {
+            todoPageCache.invalidate();
+            log.warn("댓글, 담당자 수가 실제와 다른 todo {}건을 고쳤습니다.", repaired);
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.ParallelQueryExecutor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * todo 화면에 필요한 todo, 작성자, 담당자, 댓글 첫 페이지를 한 번에 읽는다.
+ * <p>
+ * 쿼리는 항상 3번이고 서로의 결과를 쓰지 않으므로, 담당자와 댓글은 {@link ParallelQueryExecutor} 에서 읽고 그동안 요청 스레드가 todo 를 읽는다.
+ * 세 쿼리가 한 트랜잭션으로 묶이지 않도록 이 클래스에는 @Transactional 을 붙이지 않는다.
+ * 각 쿼리는 repository 의 읽기 전용 트랜잭션에서 따로 실행되므로, 그 사이에 커밋된 담당자나 댓글은 보일 수도 있고 아닐 수도 있다.
+ * 커넥션 풀이 바닥나 담당자나 댓글을 제때 읽지 못하면 기다리지 않고 503 으로 응답한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoDetailService {
+
+    static final int MAX_COMMENT_SIZE = 100;
+
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+
+    public TodoDetailResponse getTodoDetail(long todoId, int commentSize) {
+        // 음수나 너무 큰 값은 PageRequest 에서 터지거나 댓글 전체를 한 번에 읽으므로 쿼리 전에 막는다.
+        if (commentSize < 1 || commentSize > MAX_COMMENT_SIZE) {
+            throw new InvalidRequestException("commentSize 는 1 이상 " + MAX_COMMENT_SIZE + " 이하여야 합니다.");
+        }
+
+        CompletableFuture<List<ManagerResponse>> managers =
+                parallelQueryExecutor.submit(() -> managerRepository.findResponsesByTodoId(todoId));
+        // 다음 댓글이 있는지 알기 위해 하나 더 읽는다.
+        CompletableFuture<List<CommentResponse>> comments =
+                parallelQueryExecutor.submit(() -> commentRepository.findPageResponsesByTodoId(todoId, PageRequest.of(0, commentSize + 1)));
+
+        TodoResponse todo = todoRepository.findResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        List<CommentResponse> commentPage = join(comments);
+        boolean hasMoreComments = commentPage.size() > commentSize;
+
+        return new TodoDetailResponse(
+                todo,
+                join(managers),
+                hasMoreComments ? commentPage.subList(0, commentSize) : commentPage,
+                hasMoreComments
+        );
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw new ServiceUnavailableException("todo 상세 조회가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+            throw new ServerException("todo 상세 조회에 실패했습니다.");
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.service.TodoSearchIndex.Hit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * todo 하나를 (제목 + 내용 + 댓글) 문서 하나로 보는 메모리 역색인.
+ * <ul>
+ *     <li>영문/숫자는 단어 단위로, 한글/한자/가나는 조사가 붙어도 찾을 수 있도록 두 글자씩 잘라 색인한다.
+ *     한 글자 검색어도 찾을 수 있도록 문서 쪽에는 한 글자씩도 함께 넣는다.</li>
+ *     <li>검색어의 모든 토큰을 포함한 문서만 찾고, BM25 점수 내림차순 → todoId 내림차순으로 정렬한다.</li>
+ *     <li>제목의 토큰은 TITLE_WEIGHT 번 나온 것으로 센다.</li>
+ * </ul>
+ * 같은 todo / 댓글을 다시 넣으면 무시하므로, 재색인 중에 같은 변경이 두 번 들어와도 된다.
+ * 재색인으로 만드는 동안에는 지운 댓글의 id 를 기억해 두어, 스트리밍이 지우기 전의 댓글을 늦게 읽어 와도 다시 넣지 않는다.
+ * 스트리밍이 끝나면 더는 필요 없으므로 잊는다.
+ */
+class TodoInvertedIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 토큰을 나누는 글자 종류
+    private static final int SEPARATOR = 0;
+    private static final int WORD = 1;
+    private static final int CJK = 2;
+
+    static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::todoId).reversed());
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>(); // 토큰 → (todoId → 가중 빈도)
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private final Set<Long> todoIds = new HashSet<>(); // 제목, 내용까지 색인된 todo
+    private final Set<Long> commentIds = new HashSet<>();
+    private Set<Long> removedCommentIds; // 재색인 스트리밍 중에만 쓰고, 그 밖에는 null
+    private long totalLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    boolean addTodo(long todoId, String title, String contents) {
+        lock.writeLock().lock();
+        try {
+            if (!todoIds.add(todoId)) {
+                return false;
+            }
+            addTokens(todoId, tokenizeDocument(title), TITLE_WEIGHT);
+            addTokens(todoId, tokenizeDocument(contents), 1);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // todo 보다 댓글이 먼저 들어올 수도 있으므로 todo 가 없어도 문서를 만든다.
+    boolean addComment(long commentId, long todoId, String contents) {
+        lock.writeLock().lock();
+        try {
+            if ((removedCommentIds != null && removedCommentIds.contains(commentId)) || !commentIds.add(commentId)) {
+                return false;
+            }
+            addTokens(todoId, tokenizeDocument(contents), 1);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 넣을 때와 같은 내용을 받아 같은 토큰을 뺀다. 댓글만 있던 todo 는 문서도 지운다.
+    boolean removeComment(long commentId, long todoId, String contents) {
+        lock.writeLock().lock();
+        try {
+            if (removedCommentIds != null) {
+                removedCommentIds.add(commentId);
+            }
+            if (!commentIds.remove(commentId)) {
+                return false;
+            }
+
+            List<String> tokens = tokenizeDocument(contents);
+            for (String token : tokens) {
+                Map<Long, Integer> posting = postings.get(token);
+                if (posting != null && posting.merge(todoId, -1, Integer::sum) <= 0) {
+                    posting.remove(todoId);
+                    if (posting.isEmpty()) {
+                        postings.remove(token);
+                    }
+                }
+            }
+            int length = documentLengths.merge(todoId, -tokens.size(), Integer::sum);
+            if (length <= 0 && !todoIds.contains(todoId)) {
+                documentLengths.remove(todoId);
+            }
+            totalLength -= tokens.size();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 재색인 스트리밍을 시작하기 전에 부른다.
+    void trackRemovedComments() {
+        lock.writeLock().lock();
+        try {
+            removedCommentIds = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 재색인 스트리밍이 끝나면 부른다. 이후로는 지운 댓글이 다시 들어올 일이 없다.
+    void forgetRemovedComments() {
+        lock.writeLock().lock();
+        try {
+            removedCommentIds = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * after 보다 뒤에 오는 결과를 순위대로 최대 limit 개 반환한다. after 가 null 이면 처음부터.
+     */
+    List<Hit> search(String query, Hit after, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+            // 가장 짧은 목록을 돌면서 나머지 목록에도 있는지 확인한다.
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documentLengths.size();
+            double averageLength = (double) totalLength / documentCount;
+            double[] idf = new double[termPostings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = termPostings.get(i).size();
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            // 순위가 가장 낮은 결과가 맨 앞에 오는 최대 limit 개의 힙. 후보 수만큼만 자라도록 기본 크기로 시작한다.
+            PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+            candidates:
+            for (Map.Entry<Long, Integer> candidate : termPostings.get(0).entrySet()) {
+                long todoId = candidate.getKey();
+                double norm = K1 * (1 - B + B * documentLengths.get(todoId) / averageLength);
+
+                double score = 0;
+                for (int i = 0; i < idf.length; i++) {
+                    Integer tf = i == 0 ? candidate.getValue() : termPostings.get(i).get(todoId);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                }
+
+                Hit hit = new Hit(todoId, (float) score);
+                if (after != null && RANKING.compare(hit, after) <= 0) {
+                    continue;
+                }
+                top.offer(hit);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(RANKING);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documentLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addTokens(long todoId, List<String> tokens, int weight) {
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, key -> new HashMap<>()).merge(todoId, weight, Integer::sum);
+        }
+        documentLengths.merge(todoId, tokens.size() * weight, Integer::sum);
+        totalLength += (long) tokens.size() * weight;
+    }
+
+    // 검색어의 토큰. 한글/한자/가나는 두 글자씩, 한 글자뿐이면 그 한 글자로 자른다.
+    static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // 문서의 토큰. 검색어 토큰에 더해 두 글자 이상인 한글/한자/가나 구간의 글자 하나하나도 넣는다.
+    static List<String> tokenizeDocument(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = 0;
+        int startType = SEPARATOR;
+        for (int i = 0; i <= lower.length(); ) {
+            int codePoint = i < lower.length() ? lower.codePointAt(i) : ' ';
+            int type = charType(codePoint);
+            if (type != startType) {
+                addToken(tokens, lower.substring(start, i), startType, unigrams);
+                start = i;
+                startType = type;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return tokens;
+    }
+
+    private static int charType(int codePoint) {
+        if (!Character.isLetterOrDigit(codePoint)) {
+            return SEPARATOR;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return switch (script) {
+            case HANGUL, HAN, HIRAGANA, KATAKANA -> CJK;
+            default -> WORD;
+        };
+    }
+
+    private static void addToken(List<String> tokens, String run, int type, boolean unigrams) {
+        if (type == WORD) {
+            tokens.add(run);
+        } else if (type == CJK) {
+            int length = run.codePointCount(0, run.length());
+            if (length == 1) {
+                tokens.add(run);
+                return;
+            }
+            for (int i = 0; i < length; i++) {
+                int begin = run.offsetByCodePoints(0, i);
+                if (unigrams) {
+                    tokens.add(run.substring(begin, run.offsetByCodePoints(begin, 1)));
+                }
+                if (i < length - 1) {
+                    tokens.add(run.substring(begin, run.offsetByCodePoints(begin, 2)));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 앞쪽 몇 페이지의 todo 목록을 페이지별로 들고 있는 캐시.
+ * 기본 크기(page-size)로 조회한 페이지만 캐시하므로, 많아야 max-page 개 페이지, max-page * page-size 건만 들고 있는다.
+ * <p>
+ * todo 를 쓸 때마다 전역 버전을 올리고, 버전이 다른 항목은 쓰지 않는다.
+ * 조회는 쿼리 전에 버전을 읽고 그 버전으로 저장하며, 쓰기는 커밋이 끝난 뒤에 버전을 올리므로
+ * 쓰기 이전에 읽은 결과가 쓰기 이후의 버전으로 저장되는 일은 없다.
+ * 같은 (page, 버전) 을 동시에 처음 조회하면 한 요청만 쿼리하고 나머지는 그 결과를 기다린다.
+ */
+@Component
+public class TodoPageCache {
+
+    private final int maxPage;
+    private final int pageSize;
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TodoPageCache(
+            @Value("${todo.page-cache.max-page:3}") int maxPage,
+            @Value("${todo.page-cache.page-size:10}") int pageSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.maxPage = maxPage;
+        this.pageSize = pageSize;
+
+        this.hitCounter = meterRegistry.counter("todo.page-cache.gets", "result", "hit");
+        this.missCounter = meterRegistry.counter("todo.page-cache.gets", "result", "miss");
+        Gauge.builder("todo.page-cache.size", entries, ConcurrentHashMap::size).register(meterRegistry);
+        Gauge.builder("todo.page-cache.hit-ratio", this, TodoPageCache::hitRatio).register(meterRegistry);
+    }
+
+    public Page<TodoResponse> get(int page, int size, Supplier<Page<TodoResponse>> loader) {
+        if (page > maxPage || size != pageSize) {
+            return loader.get();
+        }
+
+        long currentVersion = version.get();
+
+        Entry entry = entries.get(page);
+        if (entry != null && entry.version == currentVersion) {
+            hitCounter.increment();
+            return join(entry.future);
+        }
+
+        Entry mine = new Entry(currentVersion, new CompletableFuture<>());
+        Entry winner = entries.compute(page, (k, current) ->
+                current != null && current.version == currentVersion ? current : mine);
+        if (winner != mine) {
+            // 다른 요청이 이미 같은 버전을 조회하고 있다.
+            hitCounter.increment();
+            return join(winner.future);
+        }
+
+        missCounter.increment();
+        try {
+            Page<TodoResponse> loaded = loader.get();
+            mine.future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            entries.remove(page, mine);
+            mine.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // todo 목록에 보이는 값을 바꾼 뒤 호출한다. 트랜잭션 안이라면 커밋된 뒤에 버전을 올린다.
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+            return;
+        }
+        version.incrementAndGet();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static Page<TodoResponse> join(CompletableFuture<Page<TodoResponse>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(long version, CompletableFuture<Page<TodoResponse>> future) {
+    }
+}
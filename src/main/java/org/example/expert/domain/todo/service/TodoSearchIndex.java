@@ -0,0 +1,148 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.repository.CommentSearchSource;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSearchSource;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * todo 제목, 내용, 댓글의 검색 색인. {@link TodoInvertedIndex} 를 메모리에 들고 있는다.
+ * <p>
+ * todo, 댓글을 저장하면 커밋이 끝난 뒤에 색인에 더하고, 관리자가 댓글을 지우면 커밋이 끝난 뒤에 색인에서 뺀다.
+ * 시작할 때와 관리자가 요청할 때는 DB 를 스트리밍으로 읽어 새 색인을 만든 뒤 바꿔 끼우고,
+ * 만드는 동안 커밋된 변경은 지금 색인과 새 색인 양쪽에 넣는다.
+ * 같은 todo / 댓글은 한 번만 들어가고 지운 댓글은 다시 들어가지 않으므로 스트리밍으로 읽은 것과 겹쳐도 된다.
+ */
+@Slf4j(topic = "TodoSearchIndex")
+@Component
+public class TodoSearchIndex {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate readOnly;
+
+    private volatile TodoInvertedIndex index = new TodoInvertedIndex();
+    private volatile TodoInvertedIndex building; // 재색인 중인 새 색인
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public TodoSearchIndex(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+
+        Gauge.builder("todo.search.documents", this, searchIndex -> searchIndex.index.documentCount()).register(meterRegistry);
+        Gauge.builder("todo.search.terms", this, searchIndex -> searchIndex.index.termCount()).register(meterRegistry);
+    }
+
+    public void indexTodo(long todoId, String title, String contents) {
+        afterCommit(() -> {
+            // building 을 먼저 읽어야, 바꿔 끼우는 사이에 들어온 변경이 새 색인에서 빠지지 않는다.
+            TodoInvertedIndex next = building;
+            index.addTodo(todoId, title, contents);
+            if (next != null) {
+                next.addTodo(todoId, title, contents);
+            }
+        });
+    }
+
+    public void indexComment(long commentId, long todoId, String contents) {
+        afterCommit(() -> {
+            TodoInvertedIndex next = building;
+            index.addComment(commentId, todoId, contents);
+            if (next != null) {
+                next.addComment(commentId, todoId, contents);
+            }
+        });
+    }
+
+    public void removeComment(long commentId, long todoId, String contents) {
+        afterCommit(() -> {
+            TodoInvertedIndex next = building;
+            index.removeComment(commentId, todoId, contents);
+            if (next != null) {
+                next.removeComment(commentId, todoId, contents);
+            }
+        });
+    }
+
+    /**
+     * after 다음 순위부터 최대 limit 개를 점수 내림차순으로 반환한다.
+     */
+    public List<Hit> search(String query, Hit after, int limit) {
+        return index.search(query, after, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * DB 의 todo, 댓글을 모두 읽어 색인을 새로 만든다. 이미 재색인 중이라면 아무것도 하지 않는다.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            TodoInvertedIndex next = new TodoInvertedIndex();
+            next.trackRemovedComments();
+            // 스트리밍을 시작하기 전에 building 을 걸어 두어, 그 뒤에 커밋된 변경은 조회에서 빠져도 색인에는 들어가게 한다.
+            building = next;
+
+            long started = System.nanoTime();
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<TodoSearchSource> todos = todoRepository.streamSearchSources()) {
+                    todos.forEach(todo -> next.addTodo(todo.getId(), todo.getTitle(), todo.getContents()));
+                }
+                try (Stream<CommentSearchSource> comments = commentRepository.streamSearchSources()) {
+                    comments.forEach(comment -> next.addComment(comment.getId(), comment.getTodoId(), comment.getContents()));
+                }
+            });
+            next.forgetRemovedComments();
+
+            index = next;
+            log.info("검색 색인을 다시 만들었습니다. (문서 {}건, 토큰 {}개, {}ms)",
+                    next.documentCount(), next.termCount(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    public record Hit(long todoId, float score) {
+    }
+}
@@ -4,32 +4,58 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoSearchCursor;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    // 한 번에 읽는 todo 수의 상한과, OFFSET 으로 읽을 수 있는 마지막 페이지. 그 뒤는 mode=cursor 로 읽는다.
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_PAGE = 10_000;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCountCache todoCountCache;
+    private final TodoPageCache todoPageCache;
+    private final TodoSearchIndex todoSearchIndex;
+
+    // true 면 날씨 없이 먼저 저장해 응답하고, TodoWeatherEnricher 가 나중에 채운다.
+    @Value("${todo.weather.async:false}")
+    private boolean asyncWeather;
 
-    @Transactional
+    // 날씨 조회가 느려도 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 조회하고, 저장만 save 의 트랜잭션에서 한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = asyncWeather ? null : weatherClient.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -38,36 +64,146 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoCountCache.add(1);
+        todoPageCache.invalidate();
+        todoSearchIndex.indexTodo(savedTodo.getId(), savedTodo.getTitle(), savedTodo.getContents());
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
                 savedTodo.getContents(),
                 weather,
+                savedTodo.isWeatherPending(),
                 new UserResponse(user.getId(), user.getEmail())
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size) {
+    public Page<TodoResponse> getTodos(int page, int size, TodoSearchCondition condition) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        if (!condition.isEmpty()) {
+            List<TodoResponse> content = todoRepository.findFiltered(condition, null, pageable.getOffset(), size);
+            return PageableExecutionUtils.getPage(content, pageable, () -> todoRepository.countFiltered(condition));
+        }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        // 대부분의 요청이 앞쪽 몇 페이지를 보므로, todo 가 바뀌기 전까지는 캐시된 페이지를 그대로 돌려준다.
+        return todoPageCache.get(page, size, () -> todoRepository.findAllByOrderByModifiedAtDesc(pageable));
+    }
+
+    // 전체 건수는 매번 세지 않고 TodoCountCache 의 근사값을 쓴다.
+    public TodoSliceResponse getTodoSlice(int page, int size, TodoSearchCondition condition) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        if (!condition.isEmpty()) {
+            List<TodoResponse> todos = todoRepository.findFiltered(condition, null, pageable.getOffset(), size + 1);
+            boolean hasNext = todos.size() > size;
+            return new TodoSliceResponse(hasNext ? todos.subList(0, size) : todos, page, size, hasNext, null);
+        }
+
+        Slice<TodoResponse> todos = todoRepository.findSliceByOrderByModifiedAtDesc(pageable);
+
+        return new TodoSliceResponse(
+                todos.getContent(),
+                page,
+                size,
+                todos.hasNext(),
+                todoCountCache.get()
+        );
+    }
+
+    // OFFSET 대신 마지막으로 응답한 todo 의 (modifiedAt, id) 다음부터 읽어, 뒤 페이지로 갈수록 느려지지 않는다.
+    public TodoCursorResponse getTodosByCursor(String cursor, int size, TodoSearchCondition condition) {
+        checkSize(size);
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 읽는다.
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<TodoResponse> todos;
+        if (!condition.isEmpty()) {
+            TodoCursor todoCursor = cursor == null || cursor.isEmpty() ? null : TodoCursor.decode(cursor);
+            todos = todoRepository.findFiltered(condition, todoCursor, 0, size + 1);
+        } else if (cursor == null || cursor.isEmpty()) {
+            todos = todoRepository.findFirstPage(limit);
+        } else {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findPageAfter(todoCursor.getModifiedAt(), todoCursor.getId(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoCursorResponse(content, nextCursor);
+    }
+
+    // 색인에서 순위대로 todo id 를 고른 뒤, 그 todo 들만 DB 에서 읽어 순위대로 돌려준다.
+    public TodoCursorResponse searchTodos(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해 주세요.");
+        }
+        checkSize(size);
+
+        TodoSearchIndex.Hit after = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            TodoSearchCursor searchCursor = TodoSearchCursor.decode(cursor);
+            after = new TodoSearchIndex.Hit(searchCursor.getId(), searchCursor.getScore());
+        }
+
+        List<TodoSearchIndex.Hit> hits = todoSearchIndex.search(query, after, size + 1);
+        boolean hasNext = hits.size() > size;
+        List<TodoSearchIndex.Hit> page = hasNext ? hits.subList(0, size) : hits;
+        if (page.isEmpty()) {
+            return new TodoCursorResponse(List.of(), null);
+        }
+
+        Map<Long, TodoResponse> todos = new HashMap<>();
+        for (TodoResponse todo : todoRepository.findResponsesByIdIn(page.stream().map(TodoSearchIndex.Hit::todoId).toList())) {
+            todos.put(todo.getId(), todo);
+        }
+        List<TodoResponse> content = new ArrayList<>(page.size());
+        for (TodoSearchIndex.Hit hit : page) {
+            TodoResponse todo = todos.get(hit.todoId());
+            if (todo != null) {
+                content.add(todo);
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoSearchIndex.Hit last = page.get(page.size() - 1);
+            nextCursor = new TodoSearchCursor(last.score(), last.todoId()).encode();
+        }
+
+        return new TodoCursorResponse(content, nextCursor);
     }
 
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
+        return toTodoResponse(todo);
+    }
+
+    // OFFSET((page - 1) * size) 이 int 를 넘거나 한 번에 너무 많이 읽지 않도록 쿼리 전에 확인한다.
+    public static void checkPage(int page, int size) {
+        if (page < 1 || page > MAX_PAGE) {
+            throw new InvalidRequestException("page 는 1 이상 " + MAX_PAGE + " 이하여야 합니다.");
+        }
+        checkSize(size);
+    }
+
+    public static void checkSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    private static TodoResponse toTodoResponse(Todo todo) {
         User user = todo.getUser();
 
         return new TodoResponse(
@@ -75,6 +211,9 @@ public class TodoService {
                 todo.getTitle(),
                 todo.getContents(),
                 todo.getWeather(),
+                todo.isWeatherPending(),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
                 new UserResponse(user.getId(), user.getEmail()),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * todo 와 딸린 조회 응답의 ETag. todos.version 만 읽으므로 If-None-Match 가 맞으면 본문을 만들지 않고 304 로 끝난다.
+ * <p>
+ * 본문보다 먼저 읽어야 한다. ETag 가 본문보다 오래되면 다음 요청에서 한 번 더 내려받을 뿐이지만,
+ * 본문보다 새로우면 그 사이의 변경을 클라이언트가 놓친다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoVersionService {
+
+    private final TodoRepository todoRepository;
+
+    // todo 가 없다면 null 을 반환하고, 조회는 ETag 없이 원래대로 처리한다.
+    public String getETag(long todoId, String resource) {
+        return todoRepository.findVersionById(todoId)
+                .map(version -> "\"" + resource + "-" + todoId + "-" + version + "\"")
+                .orElse(null);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.repository.TodoPendingWeather;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 날씨 없이 먼저 저장된 todo 에 날씨를 채운다.
+ * <p>
+ * 대기 중인 todo 를 배치 크기만큼 읽어 생성일별로 묶고, 날짜마다 날씨를 한 번 조회해 UPDATE 한 번으로 채운다.
+ * 날씨 조회에 실패한 날짜는 그대로 두고 다음 주기에 다시 시도한다.
+ * 한 주기 안에서는 id 커서로 앞으로만 읽으므로, 계속 실패하는 todo 가 배치를 채워도 그 뒤의 todo 까지 채운다.
+ * todo.weather.async 가 켜져 있을 때만 동작한다.
+ */
+@Slf4j(topic = "TodoWeatherEnricher")
+@Component
+@ConditionalOnProperty(name = "todo.weather.async", havingValue = "true")
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TodoPageCache todoPageCache;
+    private final int batchSize;
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            TodoPageCache todoPageCache,
+            @Value("${todo.weather.enrich-batch-size:500}") int batchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.todoPageCache = todoPageCache;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.weather.enrich-interval-millis:1000}")
+    public void enrichPendingTodos() {
+        long afterId = 0;
+        List<TodoPendingWeather> pending;
+        do {
+            pending = todoRepository.findPendingWeather(afterId, PageRequest.of(0, batchSize));
+            if (pending.isEmpty()) {
+                return;
+            }
+            enrichBatch(pending);
+            afterId = pending.get(pending.size() - 1).getId();
+        } while (pending.size() == batchSize);
+    }
+
+    // 채운 todo 수를 반환한다.
+    int enrichBatch(List<TodoPendingWeather> pending) {
+        Map<LocalDate, List<Long>> todoIdsByDate = new LinkedHashMap<>();
+        for (TodoPendingWeather todo : pending) {
+            LocalDate date = todo.getCreatedAt() == null ? LocalDate.now() : todo.getCreatedAt().toLocalDate();
+            todoIdsByDate.computeIfAbsent(date, key -> new ArrayList<>()).add(todo.getId());
+        }
+
+        int enriched = 0;
+        for (Map.Entry<LocalDate, List<Long>> entry : todoIdsByDate.entrySet()) {
+            String weather;
+            try {
+                weather = weatherClient.getWeather(entry.getKey());
+            } catch (ServerException e) {
+                log.warn("{} 날씨를 가져오지 못해 todo {}건을 다음에 다시 채웁니다. {}",
+                        entry.getKey(), entry.getValue().size(), e.getMessage());
+                continue;
+            }
+            enriched += todoRepository.fillWeather(entry.getValue(), weather);
+        }
+
+        if (enriched > 0) {
+            todoPageCache.invalidate();
+        }
+        return enriched;
+    }
+}
@@ -3,6 +3,8 @@ package org.example.expert.domain.user.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.example.expert.config.PersistenceConfig;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
@@ -13,13 +15,17 @@ import org.example.expert.domain.user.enums.UserRole;
 @Table(name = "users")
 public class User extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", allocationSize = PersistenceConfig.ID_BLOCK_SIZE)
     private Long id;
     @Column(unique = true)
     private String email;
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int tokenEpoch; // 권한/비밀번호가 바뀔 때마다 올라가며, 이전 epoch 로 발급된 토큰은 무효가 된다.
 
     public User(String email, String password, UserRole userRole) {
         this.email = email;
@@ -39,9 +45,11 @@ public class User extends Timestamped {
 
     public void changePassword(String password) {
         this.password = password;
+        this.tokenEpoch++;
     }
 
     public void updateRole(UserRole userRole) {
         this.userRole = userRole;
+        this.tokenEpoch++;
     }
 }
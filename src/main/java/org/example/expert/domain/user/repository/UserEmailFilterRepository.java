@@ -0,0 +1,7 @@
+package org.example.expert.domain.user.repository;
+
+public interface UserEmailFilterRepository {
+    // false 면 가입되지 않은 이메일이 확실하고, true 면 DB 로 확인해야 한다.
+    boolean mightExistByEmail(String email);
+    void registerEmail(String email);
+}
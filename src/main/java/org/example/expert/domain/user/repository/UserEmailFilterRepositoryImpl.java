@@ -0,0 +1,88 @@
+package org.example.expert.domain.user.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일을 Bloom filter 로 들고 있다가, 확실히 없는 이메일이면 existsByEmail 쿼리를 건너뛰게 한다.
+ * 시작할 때 이메일을 스트리밍으로 읽어 채우고, 다 채우기 전까지는 항상 DB 로 확인하게 한다.
+ * 필터가 모르는 가입이 있을 수 있으므로(README 의 "여러 노드로 띄울 때") 최종 확인은 email 의 unique 제약이 한다.
+ */
+@Slf4j(topic = "UserEmailFilter")
+public class UserEmailFilterRepositoryImpl implements UserEmailFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final EmailBloomFilter filter;
+    private volatile boolean loaded;
+
+    private final Counter absentCounter;
+    private final Counter maybeCounter;
+
+    public UserEmailFilterRepositoryImpl(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.filter = new EmailBloomFilter(expectedInsertions, falsePositiveRate);
+
+        this.absentCounter = meterRegistry.counter("user.email-filter.checks", "result", "absent");
+        this.maybeCounter = meterRegistry.counter("user.email-filter.checks", "result", "maybe");
+        Gauge.builder("user.email-filter.bytes", filter, EmailBloomFilter::byteSize).register(meterRegistry);
+        Gauge.builder("user.email-filter.false-positive-rate", filter, EmailBloomFilter::estimatedFalsePositiveRate)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        AtomicLong count = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> emails = entityManager
+                    .createQuery("SELECT u.email FROM User u", String.class)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, 1000)
+                    .getResultStream()) {
+                emails.forEach(email -> {
+                    filter.put(email);
+                    count.incrementAndGet();
+                });
+            }
+        });
+        loaded = true;
+
+        log.info("이메일 {}건을 불러왔습니다. (메모리 {}KB, 해시 {}개, 추정 오탐률 {})",
+                count.get(), filter.byteSize() / 1024, filter.hashCount(), filter.estimatedFalsePositiveRate());
+    }
+
+    @Override
+    public boolean mightExistByEmail(String email) {
+        if (!loaded || filter.mightContain(email)) {
+            maybeCounter.increment();
+            return true;
+        }
+        absentCounter.increment();
+        return false;
+    }
+
+    @Override
+    public void registerEmail(String email) {
+        filter.put(email);
+    }
+}
@@ -3,9 +3,11 @@ package org.example.expert.domain.user.repository;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserEmailFilterRepository {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+    List<UserTokenEpoch> findAllByTokenEpochGreaterThan(int tokenEpoch);
 }
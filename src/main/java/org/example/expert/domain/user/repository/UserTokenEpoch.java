@@ -0,0 +1,6 @@
+package org.example.expert.domain.user.repository;
+
+public interface UserTokenEpoch {
+    Long getId();
+    int getTokenEpoch();
+}
@@ -0,0 +1,402 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherClientTest {
+
+    private static final String TODAY = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+    private static final String TOMORROW = LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern("MM-dd"));
+
+    private HttpServer server;
+    private final List<HttpExchangeLog> requests = new CopyOnWriteArrayList<>();
+
+    private volatile int status = 200;
+    private volatile String body;
+    private volatile String eTag = "\"v1\"";
+
+    private volatile long latencyMillis;
+    private volatile long trickleMillis; // 0 보다 크면 본문을 100ms 마다 한 글자씩 이 시간 동안 보낸다.
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WeatherClientProperties properties;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        body = weatherJson("Sunny");
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/f-api/weather.json", this::handle);
+        server.start();
+
+        properties = new WeatherClientProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setReadTimeout(Duration.ofMillis(300));
+        properties.getCircuitBreaker().setFailureThreshold(2);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofHours(1));
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        weatherClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 한 번만 불러오고, 이후에는 메모리에서 꺼낸다.")
+    public void getTodayWeather_loadedOnce() {
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    @DisplayName("갱신할 때 ETag 와 Last-Modified 로 조건부 요청을 보내고, 304 면 기존 데이터를 유지한다.")
+    public void refresh_notModified_keepsData() {
+        // given
+        weatherClient.getTodayWeather();
+        status = 304;
+
+        // when
+        weatherClient.refresh();
+
+        // then
+        assertEquals(2, requests.size());
+        assertEquals("\"v1\"", requests.get(1).ifNoneMatch());
+        assertNotNull(requests.get(1).ifModifiedSince());
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+    }
+
+    @Test
+    @DisplayName("데이터가 바뀌었다면 새 데이터로 교체한다.")
+    public void refresh_modified_replacesData() {
+        // given
+        weatherClient.getTodayWeather();
+        body = weatherJson("Rainy");
+        eTag = "\"v2\"";
+
+        // when
+        weatherClient.refresh();
+
+        // then
+        assertEquals("Rainy", weatherClient.getTodayWeather());
+        weatherClient.refresh();
+        assertEquals("\"v2\"", requests.get(2).ifNoneMatch());
+    }
+
+    @Test
+    @DisplayName("스케줄 갱신에 실패해도 마지막으로 불러온 데이터를 계속 사용한다.")
+    public void scheduledRefresh_failure_keepsData() {
+        // given
+        weatherClient.getTodayWeather();
+        status = 500;
+
+        // when
+        weatherClient.scheduledRefresh();
+
+        // then
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+    }
+
+    @Test
+    @DisplayName("처음 불러오는 데 실패하면 예외가 발생한다.")
+    public void getTodayWeather_firstLoadFailure() {
+        // given
+        status = 500;
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertTrue(exception.getMessage().startsWith("날씨 데이터를 가져오는데 실패했습니다."));
+    }
+
+    @Test
+    @DisplayName("오늘 날짜의 데이터가 없다면 예외가 발생한다.")
+    public void getTodayWeather_notFound() {
+        // given
+        body = "[{\"date\":\"" + TOMORROW + "\",\"weather\":\"Sunny\"}]";
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertEquals("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("응답이 읽기 타임아웃보다 늦으면 기다리지 않고 실패한다.")
+    public void getTodayWeather_slowUpstream_timeout() {
+        // given
+        latencyMillis = 2000;
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertTrue(elapsedMillis < 1500, "걸린 시간: " + elapsedMillis + "ms");
+        assertEquals(1, meterRegistry.get("weather.upstream.latency").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    @DisplayName("응답이 조금씩 계속 오더라도 HTTP 호출 한 번의 최대 시간이 지나면 기다리지 않고 실패한다.")
+    public void getTodayWeather_tricklingUpstream_timeout() {
+        // given
+        trickleMillis = 3000;
+        properties.setConnectionRequestTimeout(Duration.ofMillis(100));
+        properties.setConnectTimeout(Duration.ofMillis(100));
+        WeatherClient client = new WeatherClient(new RestTemplateBuilder(), properties, new SimpleMeterRegistry());
+
+        // when
+        long start = System.nanoTime();
+        ServerException exception = assertThrows(ServerException.class, client::getTodayWeather);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertTrue(elapsedMillis < 1500, "걸린 시간: " + elapsedMillis + "ms");
+        assertTrue(exception.getMessage().contains("응답 시간이 초과"), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("연속으로 실패하면 서킷이 열려 날씨 API 를 호출하지 않는다.")
+    public void refresh_consecutiveFailures_circuitOpen() {
+        // given
+        status = 500;
+        assertThrows(ServerException.class, () -> weatherClient.refresh());
+        assertThrows(ServerException.class, () -> weatherClient.refresh());
+
+        // when
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertEquals(2, requests.size());
+        assertEquals(1.0, meterRegistry.get("weather.circuit.state").gauge().value());
+        assertEquals(1.0, meterRegistry.get("weather.circuit.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("서킷이 열린 시간이 지나면 시험 호출에 성공해 다시 닫힌다.")
+    public void refresh_afterOpenDuration_circuitClosed() throws InterruptedException {
+        // given
+        properties.getCircuitBreaker().setFailureThreshold(1);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMillis(50));
+        WeatherClient client = new WeatherClient(new RestTemplateBuilder(), properties, new SimpleMeterRegistry());
+        status = 500;
+        assertThrows(ServerException.class, client::refresh);
+        status = 200;
+        Thread.sleep(100);
+
+        // when
+        String result = client.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", result);
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    @DisplayName("오늘 날씨를 찾지 못하면 마지막으로 응답한 날씨로 대신한다.")
+    public void getTodayWeather_fallbackToLastKnown() {
+        // given
+        weatherClient.getTodayWeather();
+        body = "[{\"date\":\"" + TOMORROW + "\",\"weather\":\"Cloudy\"}]";
+        eTag = "\"v2\"";
+        weatherClient.refresh();
+
+        // when
+        String result = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", result);
+        assertEquals(1.0, meterRegistry.get("weather.fallback").counter().count());
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌었다면 전날 응답한 날씨로 대신하지 않고 실패한다.")
+    public void getTodayWeather_staleLastKnown_failure() throws IOException {
+        // given
+        AtomicReference<LocalDate> date = new AtomicReference<>(LocalDate.now());
+        WeatherClient client = new WeatherClient(new RestTemplateBuilder(), properties, meterRegistry, date::get);
+        client.getTodayWeather();
+        date.set(date.get().plusDays(7));
+
+        try {
+            // when
+            ServerException exception = assertThrows(ServerException.class, client::getTodayWeather);
+
+            // then
+            assertEquals("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+            assertEquals(0.0, meterRegistry.get("weather.fallback").counter().count());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    @DisplayName("데이터가 없을 때 동시에 조회해도 날씨 API 는 한 번만 호출한다.")
+    public void getTodayWeather_concurrentColdLoad_singleRequest() throws Exception {
+        // given
+        latencyMillis = 100;
+        int callers = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return weatherClient.getTodayWeather();
+            }));
+        }
+
+        // when
+        start.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Sunny", result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, requests.size());
+        assertEquals(1, meterRegistry.get("weather.upstream.latency").tag("outcome", "ok").timer().count());
+    }
+
+    @Test
+    @DisplayName("비동기로 조회하면 호출한 스레드는 응답을 기다리지 않고, 진행 중인 호출에 합류한다.")
+    public void getTodayWeatherAsync_joinsInFlightFetch() throws Exception {
+        // given
+        latencyMillis = 200;
+
+        // when
+        long start = System.nanoTime();
+        CompletableFuture<String> first = weatherClient.getTodayWeatherAsync();
+        CompletableFuture<String> second = weatherClient.getTodayWeatherAsync();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertTrue(elapsedMillis < 100, "걸린 시간: " + elapsedMillis + "ms");
+        assertFalse(first.isDone());
+        assertEquals("Sunny", first.get(5, TimeUnit.SECONDS));
+        assertEquals("Sunny", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, requests.size());
+        assertEquals(1.0, meterRegistry.get("weather.coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("함께 기다리던 호출이 실패하면 모두 실패하고, 다음 조회는 다시 호출한다.")
+    public void getTodayWeather_inFlightFailure_nextCallRetries() throws Exception {
+        // given
+        status = 500;
+        latencyMillis = 100;
+        CompletableFuture<String> first = weatherClient.getTodayWeatherAsync();
+        CompletableFuture<String> second = weatherClient.getTodayWeatherAsync();
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ServerException.class, exception.getCause());
+        assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        status = 200;
+        latencyMillis = 0;
+
+        // when
+        String result = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", result);
+        assertEquals(2, requests.size());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.add(new HttpExchangeLog(
+                exchange.getRequestHeaders().getFirst("If-None-Match"),
+                exchange.getRequestHeaders().getFirst("If-Modified-Since")
+        ));
+
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (trickleMillis > 0) {
+            trickle(exchange);
+            return;
+        }
+
+        if (status != 200) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("ETag", eTag);
+        exchange.getResponseHeaders().add("Last-Modified", "Wed, 01 Jan 2025 00:00:00 GMT");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    // 읽기 타임아웃보다 짧은 간격으로 공백을 보내, 읽기 타임아웃에 걸리지 않고 응답이 끝나지 않게 한다.
+    private void trickle(HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            long deadline = System.nanoTime() + trickleMillis * 1_000_000;
+            while (System.nanoTime() < deadline) {
+                outputStream.write(' ');
+                outputStream.flush();
+                Thread.sleep(100);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 먼저 끊었다.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String weatherJson(String todayWeather) {
+        return "[{\"date\":\"" + TOMORROW + "\",\"weather\":\"Cloudy\"},"
+                + "{\"date\":\"" + TODAY + "\",\"weather\":\"" + todayWeather + "\"}]";
+    }
+
+    private record HttpExchangeLog(String ifNoneMatch, String ifModifiedSince) {
+    }
+}
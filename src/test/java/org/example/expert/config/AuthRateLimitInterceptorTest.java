@@ -0,0 +1,58 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AuthRateLimitInterceptorTest {
+
+    @Test
+    @DisplayName("신뢰하는 프록시가 없으면 X-Forwarded-For 를 무시하고 접속 주소를 쓴다.")
+    public void clientIp_noTrustedProxy_remoteAddr() {
+        // given
+        AuthRateLimitInterceptor interceptor = new AuthRateLimitInterceptor(null, 0);
+        MockHttpServletRequest request = request("10.0.0.1", "1.1.1.1");
+
+        // when
+        String clientIp = interceptor.clientIp(request);
+
+        // then
+        assertEquals("10.0.0.1", clientIp);
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시 수만큼 X-Forwarded-For 의 오른쪽에서 클라이언트 IP 를 고른다.")
+    public void clientIp_trustedProxies_rightmostHop() {
+        // given
+        AuthRateLimitInterceptor oneProxy = new AuthRateLimitInterceptor(null, 1);
+        AuthRateLimitInterceptor twoProxies = new AuthRateLimitInterceptor(null, 2);
+        MockHttpServletRequest request = request("10.0.0.2", "6.6.6.6, 1.1.1.1, 10.0.0.1");
+
+        // when, then
+        // 클라이언트가 앞에 끼워 넣은 6.6.6.6 은 쓰지 않는다.
+        assertEquals("10.0.0.1", oneProxy.clientIp(request));
+        assertEquals("1.1.1.1", twoProxies.clientIp(request));
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For 가 없거나 짧으면 접속 주소나 가장 왼쪽 주소를 쓴다.")
+    public void clientIp_missingHops_fallback() {
+        // given
+        AuthRateLimitInterceptor interceptor = new AuthRateLimitInterceptor(null, 2);
+
+        // when, then
+        assertEquals("10.0.0.1", interceptor.clientIp(request("10.0.0.1", null)));
+        assertEquals("1.1.1.1", interceptor.clientIp(request("10.0.0.1", "1.1.1.1")));
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader(AuthRateLimitInterceptor.FORWARDED_FOR_HEADER, forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BoundedMapTest {
+
+    @Test
+    @DisplayName("가득 차면 조건에 맞는 항목부터 지운다.")
+    public void put_full_evictsStaleFirst() {
+        // given
+        AtomicInteger staleEvictions = new AtomicInteger();
+        AtomicInteger sizeEvictions = new AtomicInteger();
+        BoundedMap<String, Integer> map = new BoundedMap<>(3, staleEvictions::incrementAndGet, sizeEvictions::incrementAndGet);
+        map.put("a", 1);
+        map.put("b", -1);
+        map.put("c", 3);
+
+        // when
+        map.put("d", 4, value -> value < 0);
+
+        // then
+        assertNull(map.get("b"));
+        assertEquals(3, map.size());
+        assertEquals(1, staleEvictions.get());
+        assertEquals(0, sizeEvictions.get());
+    }
+
+    @Test
+    @DisplayName("지울 항목이 없으면 용량의 90% 까지 임의의 항목을 비운다.")
+    public void put_full_evictsToTarget() {
+        // given
+        AtomicInteger sizeEvictions = new AtomicInteger();
+        BoundedMap<Integer, Integer> map = new BoundedMap<>(20, () -> {
+        }, sizeEvictions::incrementAndGet);
+        for (int i = 0; i < 20; i++) {
+            map.put(i, i);
+        }
+
+        // when
+        map.put(100, 100);
+
+        // then
+        assertEquals(19, map.size());
+        assertEquals(2, sizeEvictions.get());
+        assertEquals(100, map.get(100));
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.expert.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 잘못된 토큰 하나를 거절하는 데 드는 비용 비교.
+ * legacy 는 jjwt 예외를 잡아 스택 트레이스와 함께 log.error 를 남기고 sendError 를 호출하던 기존 방식이다.
+ * 로그는 버려지는 스트림에 쓰지만 포맷팅 비용은 그대로 든다. sendError 이후 /error 재디스패치 비용은 포함되지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final Logger LEGACY_LOG = LoggerFactory.getLogger(JwtFilter.class);
+
+    @Param({"garbage", "tampered", "expired"})
+    private String kind;
+
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() {
+        discardLogs();
+
+        byte[] secret = new byte[32];
+        for (int i = 0; i < secret.length; i++) {
+            secret[i] = (byte) (i * 7 + 1);
+        }
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenEpochTable tokenEpochTable = new TokenEpochTable(mock(UserRepository.class));
+        jwtUtil = new JwtUtil(tokenEpochTable, new JwtKeyRingProperties());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+        jwtUtil.init();
+        jwtFilter = new JwtFilter(jwtUtil, new JwtTokenCache(10_000, meterRegistry), tokenEpochTable,
+                new RouteSecurityTable(), new UserProfileCache(mock(UserRepository.class), tokenEpochTable, 10_000, meterRegistry),
+                new ObjectMapper(), meterRegistry, 10);
+
+        String token = switch (kind) {
+            case "garbage" -> "hhhhhhhjjjjjjjjjkjjjjjjj";
+            case "tampered" -> {
+                String valid = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+                char last = valid.charAt(valid.length() - 2);
+                yield valid.substring(0, valid.length() - 2) + (last == 'A' ? 'B' : 'A') + valid.charAt(valid.length() - 1);
+            }
+            case "expired" -> Jwts.builder()
+                    .setSubject("1")
+                    .claim("email", "user@example.com")
+                    .claim("userRole", UserRole.USER)
+                    .setExpiration(new Date(System.currentTimeMillis() - 1000L))
+                    .signWith(Keys.hmacShaKeyFor(secret), SignatureAlgorithm.HS256)
+                    .compact();
+            default -> throw new IllegalArgumentException(kind);
+        };
+        bearerToken = "Bearer " + token;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse legacy() throws IOException {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        String jwt = jwtUtil.substringToken(request.getHeader("Authorization"));
+        try {
+            jwtUtil.extractClaims(jwt);
+        } catch (SecurityException | MalformedJwtException e) {
+            LEGACY_LOG.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
+        } catch (ExpiredJwtException e) {
+            LEGACY_LOG.error("Expired JWT token, 만료된 JWT token 입니다.", e);
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
+        } catch (UnsupportedJwtException e) {
+            LEGACY_LOG.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
+        } catch (Exception e) {
+            LEGACY_LOG.error("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다.", e);
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
+        }
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse current() throws Exception {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        return request;
+    }
+
+    // 콘솔 출력 대신 버려지는 스트림에 같은 패턴으로 로그를 쓴다.
+    private static void discardLogs() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(Level.INFO);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSS} %5level --- [%thread] %logger{39} : %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        root.addAppender(appender);
+    }
+}
@@ -1,30 +1,48 @@
 package org.example.expert.config;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
-import org.springframework.util.ObjectUtils;
+
+import java.net.URI;
+import java.util.Base64;
+import java.util.Date;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 class JwtFilterTest {
+
+    private static final String PASSWORD_CHANGE_REQUEST = "{\"oldPassword\":\"password\",\"newPassword\":\"Password1\"}";
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenEpochTable tokenEpochTable;
+
+    @Value("${jwt.secret.key}")
+    private String secretKey;
+
     @Test
     @DisplayName("/auth 로 시작하는 url 은 필터를 통과한다.")
     public void filter_auth_success() throws Exception {
@@ -33,13 +51,41 @@ class JwtFilterTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("/auth 밖의 조회 url 도 토큰 없이는 필터를 통과하지 못한다.")
+    public void filter_readRoute_notExistToken_failure() throws Exception {
+        // when, then
+        mockMvc.perform(get("/todos"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("JWT 토큰이 필요합니다."));
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 url 은 토큰과 상관없이 404 를 반환한다.")
+    public void filter_unmappedRoute_notFound() throws Exception {
+        // when, then
+        mockMvc.perform(post("/auth/unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("요청한 경로를 찾을 수 없습니다."));
+        mockMvc.perform(get("/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("actuator url 은 매핑된 경로로 보고 토큰을 요구한다.")
+    public void filter_actuatorRoute_notExistToken_failure() throws Exception {
+        // when, then
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("JWT 토큰이 없다면 필터를 통과하지 못한다.")
     public void filter_notExistToken_failure() throws Exception {
         // when, then
-        mockMvc.perform(get("/todos"))
+        mockMvc.perform(post("/todos"))
                 .andExpect(status().isBadRequest())
-                .andExpect(result -> ObjectUtils.nullSafeEquals(result.getResponse().getErrorMessage(), "JWT 토큰이 필요합니다."));
+                .andExpect(jsonPath("$.message").value("JWT 토큰이 필요합니다."));
     }
 
     @Test
@@ -49,11 +95,33 @@ class JwtFilterTest {
         String token = "Bearer hhhhhhhjjjjjjjjjkjjjjjjj";
 
         // when, then
-        mockMvc.perform(get("/todos")
+        mockMvc.perform(put("/users")
                         .header(AUTHORIZATION, token))
                 .andDo(print())
                 .andExpect(status().isUnauthorized())
-                .andExpect(result -> ObjectUtils.nullSafeEquals(result.getResponse().getErrorMessage(), "유효하지 않는 JWT 서명입니다."));
+                .andExpect(jsonPath("$.message").value("유효하지 않는 JWT 서명입니다."));
+    }
+
+    @Test
+    @DisplayName("만료된 JWT 토큰은 /error 를 거치지 않고 JSON 으로 거절된다.")
+    public void filter_expiredToken_failure() throws Exception {
+        // given
+        String token = "Bearer " + Jwts.builder()
+                .setSubject("1")
+                .claim("email", "aaa@aaa.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(System.currentTimeMillis() - 1000L))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when, then
+        mockMvc.perform(put("/users")
+                        .header(AUTHORIZATION, token))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.status").value("UNAUTHORIZED"))
+                .andExpect(jsonPath("$.code").value(401))
+                .andExpect(jsonPath("$.message").value("만료된 JWT 토큰입니다."));
     }
 
     @Test
@@ -63,10 +131,66 @@ class JwtFilterTest {
         String token = jwtUtil.createToken(1L, "aaa@aaa.com", UserRole.USER);
 
         // when, then
-        mockMvc.perform(get("/todos")
+        mockMvc.perform(put("/users")
+                        .header(AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PASSWORD_CHANGE_REQUEST))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("User not found"));
+    }
+
+    @Test
+    @DisplayName("compact 토큰으로 필터를 통과한다.")
+    public void filter_compactToken_success() throws Exception {
+        // given
+        String token = jwtUtil.createCompactToken(1L);
+
+        // when, then
+        mockMvc.perform(put("/users")
+                        .header(AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PASSWORD_CHANGE_REQUEST))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("User not found"));
+    }
+
+    @Test
+    @DisplayName("토큰 발급 이후 권한이나 비밀번호가 바뀌었다면 필터를 통과하지 못한다.")
+    public void filter_revokedToken_failure() throws Exception {
+        // given
+        long userId = 77L;
+        String token = jwtUtil.createToken(userId, "aaa@aaa.com", UserRole.ADMIN);
+        mockMvc.perform(put("/users")
+                        .header(AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PASSWORD_CHANGE_REQUEST))
+                .andExpect(jsonPath("$.message").value("User not found"));
+
+        tokenEpochTable.update(userId, 1);
+
+        // when, then
+        mockMvc.perform(put("/users")
+                        .header(AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PASSWORD_CHANGE_REQUEST))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("더 이상 유효하지 않은 JWT 토큰입니다."));
+    }
+
+    @Test
+    @DisplayName("관리자 url 은 경로를 인코딩해도 관리자 권한이 필요하다.")
+    public void filter_encodedAdminPath_failure() throws Exception {
+        // given
+        String token = jwtUtil.createToken(1L, "aaa@aaa.com", UserRole.USER);
+
+        // when, then
+        mockMvc.perform(patch(URI.create("/%61dmin;x=y/users/1"))
                         .header(AUTHORIZATION, token))
                 .andDo(print())
-                .andExpect(status().isOk());
+                .andExpect(status().isForbidden());
     }
 
     @Test
@@ -81,7 +205,7 @@ class JwtFilterTest {
                         .header(AUTHORIZATION, token))
                 .andDo(print())
                 .andExpect(status().isForbidden())
-                .andExpect(result -> ObjectUtils.nullSafeEquals(result.getResponse().getErrorMessage(), "관리자 권한이 없습니다."));
+                .andExpect(jsonPath("$.message").value("관리자 권한이 없습니다."));
     }
 
     @Test
@@ -98,4 +222,18 @@ class JwtFilterTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("compact 토큰의 user 를 찾을 수 없다면 관리자 url 을 통과하지 못한다.")
+    public void filter_compactTokenToAdmin_failure() throws Exception {
+        // given
+        long userId = 1L;
+        String token = jwtUtil.createCompactToken(userId);
+
+        // when, then
+        mockMvc.perform(patch("/admin/users/{userId}", userId)
+                        .header(AUTHORIZATION, token))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("관리자 권한이 없습니다."));
+    }
 }
\ No newline at end of file
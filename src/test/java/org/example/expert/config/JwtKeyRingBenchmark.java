@@ -0,0 +1,70 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 키 링의 알고리즘별 토큰 발급/검증 비용.
+ * 검증은 JwtTokenCache 에 없는 토큰을 처음 볼 때 한 번 드는 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtKeyRingBenchmark {
+
+    @Param({"HS256", "RS256", "ES256"})
+    private String algorithm;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtKeyRingProperties.Key key = new JwtKeyRingProperties.Key();
+        key.setKid("bench");
+        key.setAlgorithm(algorithm);
+        if (algorithm.startsWith("HS")) {
+            byte[] secret = new byte[32];
+            for (int i = 0; i < secret.length; i++) {
+                secret[i] = (byte) (i * 7 + 1);
+            }
+            key.setSecret(Base64.getEncoder().encodeToString(secret));
+        } else {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.startsWith("RS") ? "RSA" : "EC");
+            generator.initialize(algorithm.startsWith("RS") ? 2048 : 256);
+            KeyPair keyPair = generator.generateKeyPair();
+            key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+            key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        }
+
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setSigningKid("bench");
+        properties.setKeys(List.of(key));
+
+        jwtUtil = new JwtUtil(new TokenEpochTable(mock(UserRepository.class)), properties);
+        jwtUtil.init();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+    }
+
+    @Benchmark
+    public TokenVerification verify() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+    }
+}
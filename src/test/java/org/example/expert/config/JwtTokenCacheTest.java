@@ -0,0 +1,79 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.data.user.UserMockDataUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenCache jwtTokenCache;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenCache = new JwtTokenCache(10, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("캐시에 저장된 토큰은 같은 AuthUser 를 반환한다.")
+    public void get_cachedToken_success() {
+        // given
+        AuthUser authUser = UserMockDataUtil.authUser();
+        jwtTokenCache.put("token", authUser, 2, System.currentTimeMillis() + 60_000L);
+
+        // when
+        JwtTokenCache.CachedToken result = jwtTokenCache.get("token");
+
+        // then
+        assertSame(authUser, result.authUser());
+        assertEquals(2, result.tokenEpoch());
+        assertEquals(1.0, meterRegistry.counter("jwt.token.cache.requests", "result", "hit").count());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 토큰은 null 을 반환한다.")
+    public void get_notCachedToken_failure() {
+        // when
+        JwtTokenCache.CachedToken result = jwtTokenCache.get("token");
+
+        // then
+        assertNull(result);
+        assertEquals(1.0, meterRegistry.counter("jwt.token.cache.requests", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에 저장되지 않는다.")
+    public void put_expiredToken_failure() {
+        // given
+        jwtTokenCache.put("token", UserMockDataUtil.authUser(), 0, System.currentTimeMillis() - 1L);
+
+        // when
+        JwtTokenCache.CachedToken result = jwtTokenCache.get("token");
+
+        // then
+        assertNull(result);
+        assertEquals(0, jwtTokenCache.size());
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 최대 크기를 넘지 않도록 항목을 제거한다.")
+    public void put_overMaxSize_evict() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            jwtTokenCache.put("token" + i, UserMockDataUtil.authUser(i), 0, expiresAt);
+        }
+
+        // then
+        assertTrue(jwtTokenCache.size() <= 10);
+        assertTrue(meterRegistry.counter("jwt.token.cache.evictions", "cause", "size").count() > 0);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * jjwt 파서와 HS256 빠른 경로의 토큰 검증 비용 비교.
+ * gc 프로파일러의 gc.alloc.rate.norm 이 연산당 할당 바이트 수이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private Key key;
+    private String token;
+    private String compactToken;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        for (int i = 0; i < secret.length; i++) {
+            secret[i] = (byte) (i * 7 + 1);
+        }
+
+        jwtUtil = new JwtUtil(new TokenEpochTable(mock(UserRepository.class)), new JwtKeyRingProperties());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+        jwtUtil.init();
+
+        key = Keys.hmacShaKeyFor(secret);
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+        compactToken = jwtUtil.substringToken(jwtUtil.createCompactToken(1L));
+    }
+
+    // 기존 방식: 호출마다 새 JwtParser 생성
+    @Benchmark
+    public Claims jjwtNewParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims jjwtCachedParser() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public TokenVerification hs256FastPath() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public TokenVerification hs256FastPathCompact() {
+        return jwtUtil.verifyToken(compactToken);
+    }
+}
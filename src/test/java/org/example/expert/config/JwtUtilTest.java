@@ -0,0 +1,321 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtUtilTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes();
+
+    private TokenEpochTable tokenEpochTable;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    public void setUp() {
+        tokenEpochTable = new TokenEpochTable(mock(UserRepository.class));
+        jwtUtil = new JwtUtil(tokenEpochTable, new JwtKeyRingProperties());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(SECRET));
+        jwtUtil.init();
+    }
+
+    @Nested
+    @DisplayName("토큰 검증 테스트 케이스")
+    class VerifyToken {
+        @Test
+        @DisplayName("발급한 토큰을 검증하면 jjwt 와 같은 claim 을 읽는다.")
+        public void verifyToken_success() {
+            // given
+            String token = jwtUtil.substringToken(jwtUtil.createToken(3L, "aaa@aaa.com", UserRole.ADMIN));
+
+            // when
+            TokenClaims result = jwtUtil.verifyToken(token).getClaims();
+
+            // then
+            assertEquals(3L, result.getUserId());
+            assertEquals("aaa@aaa.com", result.getEmail());
+            assertEquals(UserRole.ADMIN, result.getUserRole());
+            assertEquals(0, result.getTokenEpoch());
+            assertEquals(jwtUtil.extractClaims(token).getExpiration().getTime(), result.getExpiration());
+        }
+
+        @Test
+        @DisplayName("토큰에는 발급 당시 user 의 토큰 epoch 가 담긴다.")
+        public void verifyToken_tokenEpoch_success() {
+            // given
+            tokenEpochTable.update(3L, 2);
+            String token = jwtUtil.substringToken(jwtUtil.createToken(3L, "aaa@aaa.com", UserRole.USER));
+
+            // when
+            TokenClaims result = jwtUtil.verifyToken(token).getClaims();
+
+            // then
+            assertEquals(2, result.getTokenEpoch());
+            assertEquals(2, jwtUtil.extractClaims(token).get("epoch", Integer.class));
+        }
+
+        @Test
+        @DisplayName("서명이 변조된 토큰은 검증에 실패한다.")
+        public void verifyToken_tamperedSignature_failure() {
+            // given
+            String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "aaa@aaa.com", UserRole.USER));
+            char last = token.charAt(token.length() - 2);
+            String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+            // when
+            TokenVerification result = jwtUtil.verifyToken(tampered);
+
+            // then
+            assertFalse(result.isValid());
+            assertEquals(TokenRejection.INVALID_SIGNATURE, result.getRejection());
+        }
+
+        @Test
+        @DisplayName("만료된 토큰은 검증에 실패한다.")
+        public void verifyToken_expired_failure() {
+            // given
+            String token = Jwts.builder()
+                    .setSubject("1")
+                    .claim("email", "aaa@aaa.com")
+                    .claim("userRole", UserRole.USER)
+                    .setExpiration(new Date(System.currentTimeMillis() - 1000L))
+                    .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+                    .compact();
+
+            // when
+            TokenVerification result = jwtUtil.verifyToken(token);
+
+            // then
+            assertEquals(TokenRejection.EXPIRED, result.getRejection());
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 토큰은 검증에 실패한다.")
+        public void verifyToken_malformed_failure() {
+            // when
+            TokenVerification result = jwtUtil.verifyToken("hhhhhhhjjjjjjjjjkjjjjjjj");
+
+            // then
+            assertEquals(TokenRejection.INVALID_SIGNATURE, result.getRejection());
+        }
+
+        @Test
+        @DisplayName("서명이 없는 토큰은 지원되지 않는 토큰으로 거절한다.")
+        public void verifyToken_unsigned_failure() {
+            // given
+            String token = Jwts.builder()
+                    .setSubject("1")
+                    .claim("email", "aaa@aaa.com")
+                    .claim("userRole", UserRole.ADMIN)
+                    .compact();
+
+            // when
+            TokenVerification result = jwtUtil.verifyToken(token);
+
+            // then
+            assertEquals(TokenRejection.UNSUPPORTED, result.getRejection());
+        }
+    }
+
+    @Nested
+    @DisplayName("compact 토큰 테스트 케이스")
+    class CompactToken {
+        @Test
+        @DisplayName("compact 토큰은 userId, epoch, 만료 시각만 담는다.")
+        public void createCompactToken_success() {
+            // given
+            tokenEpochTable.update(3L, 2);
+
+            // when
+            String token = jwtUtil.substringToken(jwtUtil.createCompactToken(3L));
+            TokenClaims result = jwtUtil.verifyToken(token).getClaims();
+
+            // then
+            assertTrue(result.isCompact());
+            assertEquals(3L, result.getUserId());
+            assertNull(result.getEmail());
+            assertEquals(2, result.getTokenEpoch());
+            assertEquals(jwtUtil.extractClaims(token).getExpiration().getTime(), result.getExpiration());
+            assertEquals(Set.of("sub", "epoch", "exp"), jwtUtil.extractClaims(token).keySet());
+        }
+
+        @Test
+        @DisplayName("compact 토큰은 같은 user 의 일반 토큰보다 짧다.")
+        public void createCompactToken_shorterThanFullToken() {
+            // when
+            String compact = jwtUtil.createCompactToken(3L);
+            String full = jwtUtil.createToken(3L, "aaa@aaa.com", UserRole.ADMIN);
+
+            // then
+            assertTrue(compact.length() < full.length());
+        }
+
+        @Test
+        @DisplayName("jjwt 로 검증하는 키로 서명한 compact 토큰도 읽는다.")
+        public void verifyToken_compactAsymmetricKey_success() throws Exception {
+            // given
+            KeyPair keyPair = keyPair("EC", 256);
+            JwtUtil issuer = jwtUtil(null, keyRing("k1", key("k1", "ES256", keyPair, true, null)));
+            String token = issuer.substringToken(issuer.createCompactToken(5L));
+
+            // when
+            TokenClaims result = issuer.verifyToken(token).getClaims();
+
+            // then
+            assertTrue(result.isCompact());
+            assertEquals(5L, result.getUserId());
+        }
+    }
+
+    @Nested
+    @DisplayName("키 링 테스트 케이스")
+    class KeyRing {
+        @Test
+        @DisplayName("signing-kid 의 비대칭 키로 서명하고 kid 헤더를 붙인다.")
+        public void createToken_asymmetricKey_success() throws Exception {
+            // given
+            KeyPair keyPair = keyPair("EC", 256);
+            JwtKeyRingProperties properties = keyRing("k1", key("k1", "ES256", keyPair, true, null));
+            JwtUtil issuer = jwtUtil(null, properties);
+
+            // when
+            String token = issuer.substringToken(issuer.createToken(5L, "aaa@aaa.com", UserRole.USER));
+            TokenVerification result = issuer.verifyToken(token);
+
+            // then
+            assertTrue(result.isValid());
+            assertEquals(5L, result.getClaims().getUserId());
+            assertEquals("k1", Jwts.parserBuilder().setSigningKey(keyPair.getPublic()).build()
+                    .parseClaimsJws(token).getHeader().getKeyId());
+            // 헤더가 키 링이 미리 계산해 둔 모양과 같아야 헤더 JSON 을 읽지 않고 키를 고른다.
+            String header = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"kid\":\"k1\",\"alg\":\"ES256\"}".getBytes());
+            assertTrue(token.startsWith(header + "."));
+        }
+
+        @Test
+        @DisplayName("공개 키만 가진 노드도 다른 노드가 발급한 토큰을 검증한다.")
+        public void verifyToken_publicKeyOnly_success() throws Exception {
+            // given
+            KeyPair keyPair = keyPair("RSA", 2048);
+            JwtUtil issuer = jwtUtil(null, keyRing("k1", key("k1", "RS256", keyPair, true, null)));
+            JwtUtil verifier = jwtUtil(null, keyRing(null, key("k1", "RS256", keyPair, false, null)));
+            String token = issuer.substringToken(issuer.createToken(5L, "aaa@aaa.com", UserRole.ADMIN));
+
+            // when
+            TokenVerification result = verifier.verifyToken(token);
+
+            // then
+            assertTrue(result.isValid());
+            assertEquals(UserRole.ADMIN, result.getClaims().getUserRole());
+        }
+
+        @Test
+        @DisplayName("키 교체 중에는 이전 키와 새 키로 서명된 토큰을 모두 받고, not-after 가 지나면 이전 키의 토큰을 거절한다.")
+        public void verifyToken_rotation() throws Exception {
+            // given
+            KeyPair oldKey = keyPair("EC", 256);
+            KeyPair newKey = keyPair("EC", 256);
+            String oldToken = jwtUtil(null, keyRing("old", key("old", "ES256", oldKey, true, null)))
+                    .createToken(1L, "aaa@aaa.com", UserRole.USER).substring(7);
+
+            JwtUtil overlapping = jwtUtil(null, keyRing("new",
+                    key("old", "ES256", oldKey, false, Instant.now().plusSeconds(60)),
+                    key("new", "ES256", newKey, true, null)));
+            JwtUtil retired = jwtUtil(null, keyRing("new",
+                    key("old", "ES256", oldKey, false, Instant.now().minusSeconds(1)),
+                    key("new", "ES256", newKey, true, null)));
+            String newToken = overlapping.createToken(1L, "aaa@aaa.com", UserRole.USER).substring(7);
+
+            // when, then
+            assertTrue(overlapping.verifyToken(oldToken).isValid());
+            assertTrue(overlapping.verifyToken(newToken).isValid());
+            assertEquals(TokenRejection.INVALID_SIGNATURE, retired.verifyToken(oldToken).getRejection());
+            assertTrue(retired.verifyToken(newToken).isValid());
+        }
+
+        @Test
+        @DisplayName("kid 가 없는 기존 HS256 토큰도 함께 검증한다.")
+        public void verifyToken_legacyToken_success() throws Exception {
+            // given
+            String legacyToken = jwtUtil.createToken(1L, "aaa@aaa.com", UserRole.USER).substring(7);
+            JwtUtil ring = jwtUtil(Base64.getEncoder().encodeToString(SECRET),
+                    keyRing("k1", key("k1", "ES256", keyPair("EC", 256), true, null)));
+
+            // when
+            TokenVerification result = ring.verifyToken(legacyToken);
+
+            // then
+            assertTrue(result.isValid());
+        }
+
+        @Test
+        @DisplayName("헤더의 알고리즘이 kid 의 알고리즘과 다르면 거절한다.")
+        public void verifyToken_algorithmMismatch_failure() throws Exception {
+            // given
+            KeyPair keyPair = keyPair("RSA", 2048);
+            JwtUtil ring = jwtUtil(null, keyRing("k1", key("k1", "RS256", keyPair, true, null)));
+            String token = Jwts.builder()
+                    .setHeaderParam("kid", "k1")
+                    .setSubject("1")
+                    .claim("userRole", UserRole.ADMIN)
+                    .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+                    .compact();
+
+            // when
+            TokenVerification result = ring.verifyToken(token);
+
+            // then
+            assertEquals(TokenRejection.INVALID_SIGNATURE, result.getRejection());
+        }
+    }
+
+    private JwtUtil jwtUtil(String secretKey, JwtKeyRingProperties properties) {
+        JwtUtil util = new JwtUtil(tokenEpochTable, properties);
+        ReflectionTestUtils.setField(util, "secretKey", secretKey);
+        util.init();
+        return util;
+    }
+
+    private static JwtKeyRingProperties keyRing(String signingKid, JwtKeyRingProperties.Key... keys) {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setSigningKid(signingKid);
+        properties.setKeys(List.of(keys));
+        return properties;
+    }
+
+    private static JwtKeyRingProperties.Key key(String kid, String algorithm, KeyPair keyPair, boolean signing, Instant notAfter) {
+        JwtKeyRingProperties.Key key = new JwtKeyRingProperties.Key();
+        key.setKid(kid);
+        key.setAlgorithm(algorithm);
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        if (signing) {
+            key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        }
+        key.setNotAfter(notAfter);
+        return key;
+    }
+
+    private static KeyPair keyPair(String algorithm, int size) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+        generator.initialize(size);
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PasswordEncoder blockingPasswordEncoder = new PasswordEncoder() {
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+    };
+
+    private final PasswordHashExecutor passwordHashExecutor =
+            new PasswordHashExecutor(blockingPasswordEncoder, meterRegistry, 1, 1, 5000L);
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        passwordHashExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("비밀번호를 해싱하고 검증한다.")
+    public void encode_matches_success() {
+        // given
+        PasswordHashExecutor executor = new PasswordHashExecutor(new PasswordEncoder(), meterRegistry, 1, 1, 5000L);
+
+        // when
+        String encodedPassword = executor.encode("Password1");
+
+        // then
+        assertTrue(executor.matches("Password1", encodedPassword));
+        assertEquals(1, meterRegistry.timer("password.hash.latency", "operation", "encode").count());
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 거절한다.")
+    public void matches_queueFull_failure() throws Exception {
+        // given
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordHashExecutor.matches("a", "b"));
+        waitUntil(() -> meterRegistry.get("password.hash.active").gauge().value() == 1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordHashExecutor.matches("a", "b"));
+        waitUntil(() -> meterRegistry.get("password.hash.queue.size").gauge().value() == 1);
+
+        // when
+        TooManyRequestsException exception =
+                assertThrows(TooManyRequestsException.class, () -> passwordHashExecutor.matches("a", "b"));
+
+        // then
+        assertNotNull(exception);
+        assertEquals(1.0, meterRegistry.counter("password.hash.rejected").count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
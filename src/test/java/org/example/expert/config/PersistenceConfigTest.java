@@ -0,0 +1,101 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.PooledLoThreadLocalOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PersistenceConfigTest {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("id 는 스레드별 블록을 나눠 주는 시퀀스 생성기로 만든다.")
+    public void idGenerator_pooledThreadLocal() {
+        // given
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        // when, then
+        for (Class<?> entityClass : List.of(User.class, Todo.class, Comment.class, Manager.class)) {
+            SequenceStyleGenerator generator = assertInstanceOf(SequenceStyleGenerator.class,
+                    sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass).getGenerator());
+            assertInstanceOf(PooledLoThreadLocalOptimizer.class, generator.getOptimizer());
+            assertEquals(PersistenceConfig.ID_BLOCK_SIZE, generator.getOptimizer().getIncrementSize());
+        }
+    }
+
+    @Test
+    @DisplayName("todo 여러 건과 cascade 되는 담당자, 댓글 여러 건을 저장하면 테이블마다 INSERT 문을 한 번만 준비해 배치로 보낸다.")
+    public void saveAll_batchesInserts() {
+        // given
+        User user = userRepository.saveAndFlush(new User("batch@example.com", "pw", UserRole.USER));
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "Sunny", user));
+        }
+        statistics.clear();
+
+        // when
+        List<Todo> saved = todoRepository.saveAll(todos);
+        List<Comment> comments = new ArrayList<>();
+        for (Todo todo : saved) {
+            comments.add(new Comment("comment", user, todo));
+        }
+        commentRepository.saveAll(comments);
+        entityManager.flush();
+
+        // then
+        // todo, 담당자, 댓글 ROWS 건씩
+        assertEquals(ROWS * 3, statistics.getEntityInsertCount());
+        // 테이블마다 INSERT 1번 + 새 블록을 받는 시퀀스 조회 많아야 1번. IDENTITY 라면 INSERT 만 ROWS * 3 번이다.
+        long prepared = statistics.getPrepareStatementCount();
+        assertTrue(prepared <= 6, "준비한 문장 수: " + prepared);
+    }
+}
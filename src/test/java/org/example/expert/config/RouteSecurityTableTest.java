@@ -0,0 +1,114 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.auth.controller.AuthController;
+import org.example.expert.domain.todo.controller.TodoAdminController;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.example.expert.domain.user.controller.UserController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RouteSecurityTableTest {
+
+    private RouteSecurityTable routeSecurityTable;
+
+    @BeforeEach
+    public void setUp() {
+        routeSecurityTable = new RouteSecurityTable();
+        routeSecurityTable.add("/auth/signin", Set.of(RequestMethod.POST), RouteAccess.PUBLIC);
+        routeSecurityTable.add("/todos", Set.of(RequestMethod.GET), RouteAccess.PUBLIC);
+        routeSecurityTable.add("/todos", Set.of(RequestMethod.POST), RouteAccess.AUTHENTICATED);
+        routeSecurityTable.add("/todos/{todoId}", Set.of(RequestMethod.GET), RouteAccess.PUBLIC);
+        routeSecurityTable.add("/todos/search", Set.of(RequestMethod.GET), RouteAccess.AUTHENTICATED);
+        routeSecurityTable.add("/todos/{todoId}/comments", Set.of(RequestMethod.GET), RouteAccess.PUBLIC);
+        routeSecurityTable.add("/admin/users/{userId}", Set.of(), RouteAccess.ADMIN);
+    }
+
+    @Test
+    @DisplayName("같은 경로라도 HTTP 메서드에 따라 접근 수준이 다르다.")
+    public void lookup_byMethod() {
+        assertEquals(RouteAccess.PUBLIC, routeSecurityTable.lookup("GET", "/todos"));
+        assertEquals(RouteAccess.PUBLIC, routeSecurityTable.lookup("HEAD", "/todos"));
+        assertEquals(RouteAccess.AUTHENTICATED, routeSecurityTable.lookup("POST", "/todos"));
+        assertEquals(RouteAccess.ADMIN, routeSecurityTable.lookup("DELETE", "/admin/users/1"));
+    }
+
+    @Test
+    @DisplayName("고정 문자열을 {var} 보다 먼저 매칭하고, 실패하면 {var} 로 되돌아간다.")
+    public void lookup_literalBeforeVariable() {
+        assertEquals(RouteAccess.AUTHENTICATED, routeSecurityTable.lookup("GET", "/todos/search"));
+        assertEquals(RouteAccess.PUBLIC, routeSecurityTable.lookup("GET", "/todos/1"));
+        assertEquals(RouteAccess.PUBLIC, routeSecurityTable.lookup("GET", "/todos/search/comments"));
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 경로와 메서드는 NOT_FOUND 로 본다.")
+    public void lookup_unmapped_notFound() {
+        assertEquals(RouteAccess.NOT_FOUND, routeSecurityTable.lookup("GET", "/auth/x"));
+        assertEquals(RouteAccess.NOT_FOUND, routeSecurityTable.lookup("PUT", "/todos"));
+        assertEquals(RouteAccess.NOT_FOUND, routeSecurityTable.lookup("GET", "/todos/"));
+        assertEquals(RouteAccess.NOT_FOUND, routeSecurityTable.lookup("GET", "/todos//comments"));
+        assertEquals(RouteAccess.NOT_FOUND, routeSecurityTable.lookup("GET", ""));
+    }
+
+    @Test
+    @DisplayName("matrix 파라미터와 %인코딩은 Spring 과 같이 처리한다.")
+    public void lookup_normalizedSegments() {
+        assertEquals(RouteAccess.ADMIN, routeSecurityTable.lookup("PATCH", "/admin;jsessionid=1/users/1"));
+        assertEquals(RouteAccess.ADMIN, routeSecurityTable.lookup("PATCH", "/%61dmin/users/1"));
+        assertEquals(RouteAccess.PUBLIC, routeSecurityTable.lookup("POST", "/auth/signin;x=y"));
+    }
+
+    @Test
+    @DisplayName("컨트롤러 매핑은 /auth 만 공개하고 나머지는 인증을, /admin 은 관리자 권한을 요구한다.")
+    public void load_authenticatedFloor() {
+        // given
+        Map<RequestMappingInfo, HandlerMethod> handlerMethods = new LinkedHashMap<>();
+        handlerMethods.put(mapping("/auth/signin", RequestMethod.POST), handler(new AuthController(null, null), "signin"));
+        handlerMethods.put(mapping("/users/{userId}", RequestMethod.GET), handler(new UserController(null), "getUser"));
+        handlerMethods.put(mapping("/todos", RequestMethod.GET), handler(new TodoController(null, null, null, null), "getTodos"));
+        handlerMethods.put(mapping("/admin/todos/search/reindex", RequestMethod.POST), handler(new TodoAdminController(null), "reindexTodos"));
+        handlerMethods.put(mapping("/admin/reports", RequestMethod.GET), handler(new PlainController(), "report"));
+
+        // when
+        routeSecurityTable.load(handlerMethods);
+
+        // then
+        assertEquals(RouteAccess.PUBLIC, routeSecurityTable.lookup("POST", "/auth/signin"));
+        assertEquals(RouteAccess.AUTHENTICATED, routeSecurityTable.lookup("GET", "/users/1"));
+        assertEquals(RouteAccess.AUTHENTICATED, routeSecurityTable.lookup("GET", "/todos"));
+        assertEquals(RouteAccess.ADMIN, routeSecurityTable.lookup("POST", "/admin/todos/search/reindex"));
+        assertEquals(RouteAccess.ADMIN, routeSecurityTable.lookup("GET", "/admin/reports"));
+        assertEquals(RouteAccess.ADMIN, routeSecurityTable.lookup("GET", "/admin/unmapped"));
+        assertEquals(RouteAccess.ADMIN, routeSecurityTable.lookup("GET", "/admin"));
+        assertEquals(RouteAccess.NOT_FOUND, routeSecurityTable.lookup("GET", "/auth/unmapped"));
+    }
+
+    private static RequestMappingInfo mapping(String path, RequestMethod method) {
+        return RequestMappingInfo.paths(path).methods(method).build();
+    }
+
+    private static HandlerMethod handler(Object controller, String methodName) {
+        Method method = Arrays.stream(controller.getClass().getDeclaredMethods())
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        return new HandlerMethod(controller, method);
+    }
+
+    static class PlainController {
+        public void report() {
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class SampledLoggerTest {
+
+    @Test
+    @DisplayName("1초 안에는 정해진 건수까지만 로그를 남긴다.")
+    public void warn_overPermits_sampled() {
+        // given
+        Logger logger = mock(Logger.class);
+        given(logger.isWarnEnabled()).willReturn(true);
+        SampledLogger sampledLogger = new SampledLogger(logger, 3);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            sampledLogger.warn("{} {}", i, "uri");
+        }
+
+        // then
+        verify(logger, times(3)).warn(anyString(), any(), any());
+    }
+}
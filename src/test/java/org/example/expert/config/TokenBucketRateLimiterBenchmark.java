@@ -0,0 +1,65 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 10만 개를 4개 스레드가 동시에 검사할 때 tryAcquire 한 번의 비용.
+ * churn 은 키 수가 최대 키 수의 두 배라 stripe 가 가득 차 새 키가 공용 버킷으로 넘어가는 경우이다.
+ * mapLookup 은 같은 키들을 ConcurrentHashMap 에서 조회만 하는 기준값이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class TokenBucketRateLimiterBenchmark {
+
+    private static final int KEY_COUNT = 100_000;
+
+    private TokenBucketRateLimiter rateLimiter;
+    private TokenBucketRateLimiter smallRateLimiter;
+    private String[] keys;
+    private Map<String, Long> map;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new TokenBucketRateLimiter(5, Duration.ofMinutes(1), Duration.ofMinutes(10), KEY_COUNT * 2, 64);
+        smallRateLimiter = new TokenBucketRateLimiter(5, Duration.ofMinutes(1), Duration.ofMinutes(10), KEY_COUNT / 2, 64);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "user" + i + "@example.com";
+        }
+        map = new ConcurrentHashMap<>();
+        for (String key : keys) {
+            map.put(key, 0L);
+        }
+    }
+
+    @Benchmark
+    public boolean tryAcquire() {
+        return rateLimiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+
+    @Benchmark
+    public Long mapLookup() {
+        return map.get(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+
+    @Benchmark
+    public boolean tryAcquireChurn() {
+        return smallRateLimiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+
+    @Benchmark
+    public boolean tryAcquireHotKey() {
+        return rateLimiter.tryAcquire(keys[0]);
+    }
+}
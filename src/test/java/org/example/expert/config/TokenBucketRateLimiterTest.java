@@ -0,0 +1,84 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private TokenBucketRateLimiter rateLimiter(int capacity, int maxKeys) {
+        return new TokenBucketRateLimiter(capacity, Duration.ofSeconds(capacity), Duration.ofSeconds(10), maxKeys, 1, clock::get);
+    }
+
+    @Test
+    @DisplayName("버킷 용량까지는 허용하고 그 이상은 거절한다.")
+    public void tryAcquire_overCapacity_failure() {
+        // given
+        TokenBucketRateLimiter rateLimiter = rateLimiter(3, 10);
+
+        // when, then
+        assertTrue(rateLimiter.tryAcquire("key"));
+        assertTrue(rateLimiter.tryAcquire("key"));
+        assertTrue(rateLimiter.tryAcquire("key"));
+        assertFalse(rateLimiter.tryAcquire("key"));
+        assertTrue(rateLimiter.tryAcquire("other"));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워진다.")
+    public void tryAcquire_afterRefill_success() {
+        // given
+        TokenBucketRateLimiter rateLimiter = rateLimiter(2, 10);
+        rateLimiter.tryAcquire("key");
+        rateLimiter.tryAcquire("key");
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // then
+        assertTrue(rateLimiter.tryAcquire("key"));
+        assertFalse(rateLimiter.tryAcquire("key"));
+    }
+
+    @Test
+    @DisplayName("최대 키 수를 넘으면 오래 쓰이지 않은 키부터 정리한다.")
+    public void tryAcquire_overMaxKeys_evict() {
+        // given
+        TokenBucketRateLimiter rateLimiter = rateLimiter(1, 2);
+        rateLimiter.tryAcquire("idle");
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        rateLimiter.tryAcquire("active");
+
+        // when
+        rateLimiter.tryAcquire("new");
+
+        // then
+        assertEquals(2, rateLimiter.size());
+        assertFalse(rateLimiter.tryAcquire("active"));
+    }
+
+    @Test
+    @DisplayName("정리할 키가 없으면 사용 중인 키를 지우지 않고, 새 키는 공용 버킷을 나눠 쓴다.")
+    public void tryAcquire_overMaxKeys_noIdleKey_overflow() {
+        // given
+        TokenBucketRateLimiter rateLimiter = rateLimiter(1, 2);
+        rateLimiter.tryAcquire("victim");
+        rateLimiter.tryAcquire("spray-0");
+
+        // when
+        boolean first = rateLimiter.tryAcquire("spray-1");
+        boolean second = rateLimiter.tryAcquire("spray-2");
+
+        // then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(2, rateLimiter.size());
+        assertFalse(rateLimiter.tryAcquire("victim"));
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.repository.UserTokenEpoch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TokenEpochTableTest {
+
+    private UserRepository userRepository;
+    private TokenEpochTable tokenEpochTable;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository = mock(UserRepository.class);
+        tokenEpochTable = new TokenEpochTable(userRepository);
+    }
+
+    @Test
+    @DisplayName("시작할 때 DB 에 저장된 epoch 를 불러온다.")
+    public void init_loadFromDb_success() {
+        // given
+        UserTokenEpoch userTokenEpoch = mock(UserTokenEpoch.class);
+        given(userTokenEpoch.getId()).willReturn(3L);
+        given(userTokenEpoch.getTokenEpoch()).willReturn(4);
+        given(userRepository.findAllByTokenEpochGreaterThan(0)).willReturn(List.of(userTokenEpoch));
+
+        // when
+        tokenEpochTable.init();
+
+        // then
+        assertEquals(4, tokenEpochTable.get(3L));
+        assertEquals(0, tokenEpochTable.get(1L));
+    }
+
+    @Test
+    @DisplayName("epoch 는 더 큰 값으로만 갱신된다.")
+    public void update_lowerEpoch_ignored() {
+        // given
+        tokenEpochTable.update(1L, 3);
+
+        // when
+        tokenEpochTable.update(1L, 2);
+
+        // then
+        assertEquals(3, tokenEpochTable.get(1L));
+    }
+
+    @Test
+    @DisplayName("배열 크기를 넘는 userId 도 저장할 수 있다.")
+    public void update_largeUserId_success() {
+        // when
+        tokenEpochTable.update(5_000L, 1);
+        tokenEpochTable.update(Long.MAX_VALUE, 2);
+
+        // then
+        assertEquals(1, tokenEpochTable.get(5_000L));
+        assertEquals(2, tokenEpochTable.get(Long.MAX_VALUE));
+        assertEquals(0, tokenEpochTable.get(4_999L));
+    }
+
+    @Test
+    @DisplayName("멀리 떨어진 id 는 사이의 빈 구간에 배열을 만들지 않고 보관한다.")
+    public void update_sparseIds_success() {
+        // given
+        long nearId = 101L;
+        long farId = 1_500_000_001L;
+
+        // when
+        tokenEpochTable.update(nearId, 1);
+        tokenEpochTable.update(farId, 2);
+
+        // then
+        assertEquals(1, tokenEpochTable.get(nearId));
+        assertEquals(2, tokenEpochTable.get(farId));
+        assertEquals(0, tokenEpochTable.get(farId - 1));
+        assertEquals(0, tokenEpochTable.get(1_000_000_000L));
+        assertEquals(2, tokenEpochTable.allocatedPages());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 올린 epoch 는 커밋된 뒤에 반영한다.")
+    public void updateAfterCommit_commit_success() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tokenEpochTable.updateAfterCommit(1L, 1);
+            assertEquals(0, tokenEpochTable.get(1L));
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertEquals(1, tokenEpochTable.get(1L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 epoch 를 올리지 않는다.")
+    public void updateAfterCommit_rollback_unchanged() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tokenEpochTable.updateAfterCommit(1L, 1);
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertEquals(0, tokenEpochTable.get(1L));
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class UserProfileCacheTest {
+
+    private UserRepository userRepository;
+    private TokenEpochTable tokenEpochTable;
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository = mock(UserRepository.class);
+        tokenEpochTable = new TokenEpochTable(userRepository);
+        userProfileCache = new UserProfileCache(userRepository, tokenEpochTable, 2, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("email 이나 userRole 을 꺼내기 전에는 user 를 조회하지 않는다.")
+    public void lazyAuthUser_notLoadedUntilAccessed() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, UserRole.ADMIN, 0)));
+
+        // when
+        AuthUser authUser = userProfileCache.lazyAuthUser(1L);
+
+        // then
+        assertEquals(1L, authUser.getId());
+        verify(userRepository, never()).findById(anyLong());
+
+        assertEquals("email1", authUser.getEmail());
+        assertEquals(UserRole.ADMIN, authUser.getUserRole());
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 프로필은 캐시에서 꺼낸다.")
+    public void get_cached_success() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, UserRole.USER, 0)));
+        userProfileCache.get(1L);
+
+        // when
+        AuthUser result = userProfileCache.get(1L);
+
+        // then
+        assertEquals(UserRole.USER, result.getUserRole());
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("권한이 바뀌어 epoch 가 올라가면 프로필을 다시 읽는다.")
+    public void get_epochChanged_reload() {
+        // given
+        given(userRepository.findById(1L))
+                .willReturn(Optional.of(user(1L, UserRole.USER, 0)))
+                .willReturn(Optional.of(user(1L, UserRole.ADMIN, 1)));
+        userProfileCache.get(1L);
+        tokenEpochTable.update(1L, 1);
+
+        // when
+        AuthUser result = userProfileCache.get(1L);
+
+        // then
+        assertEquals(UserRole.ADMIN, result.getUserRole());
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("없는 user 의 프로필을 꺼내면 예외가 발생한다.")
+    public void lazyAuthUser_notFound_failure() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.empty());
+        AuthUser authUser = userProfileCache.lazyAuthUser(1L);
+
+        // when
+        AuthException exception = assertThrows(AuthException.class, authUser::getUserRole);
+
+        // then
+        assertEquals("가입되지 않은 유저입니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않도록 오래된 항목을 비운다.")
+    public void get_full_evicted() {
+        // given
+        for (long userId = 1; userId <= 3; userId++) {
+            given(userRepository.findById(userId)).willReturn(Optional.of(user(userId, UserRole.USER, 0)));
+        }
+
+        // when
+        for (long userId = 1; userId <= 3; userId++) {
+            userProfileCache.get(userId);
+        }
+
+        // then
+        assertTrue(userProfileCache.size() <= 2);
+    }
+
+    private static User user(long userId, UserRole userRole, int tokenEpoch) {
+        User user = new User("email" + userId, "password", userRole);
+        ReflectionTestUtils.setField(user, "id", userId);
+        ReflectionTestUtils.setField(user, "tokenEpoch", tokenEpoch);
+        return user;
+    }
+}
@@ -1,32 +1,46 @@
 package org.example.expert.domain.auth.controller;
 
+import org.example.expert.config.AuthRateLimitConfig;
+import org.example.expert.config.AuthRateLimiter;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.enums.TokenFormat;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.auth.service.AuthService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.example.expert.utils.TestUtils.toJsonString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AuthController.class)
+@Import(AuthRateLimitConfig.class)
 class AuthControllerTest {
     @MockBean
     private AuthService authService;
 
+    @MockBean
+    private AuthRateLimiter authRateLimiter;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -160,7 +174,7 @@ class AuthControllerTest {
             // given
             SigninRequest signinRequest = new SigninRequest("aaaa@aaa.com", "password");
 
-            given(authService.signin(any(SigninRequest.class))).willThrow(new InvalidRequestException("가입되지 않은 유저입니다."));
+            given(authService.signin(any(SigninRequest.class), any(TokenFormat.class))).willThrow(new InvalidRequestException("가입되지 않은 유저입니다."));
 
             // when, then
             mockMvc.perform(post("/auth/signin")
@@ -177,7 +191,7 @@ class AuthControllerTest {
             // given
             SigninRequest signinRequest = new SigninRequest("aaaa@aaa.com", "password");
 
-            given(authService.signin(any(SigninRequest.class))).willThrow(new AuthException(""));
+            given(authService.signin(any(SigninRequest.class), any(TokenFormat.class))).willThrow(new AuthException(""));
 
             // when, then
             mockMvc.perform(post("/auth/signin")
@@ -188,6 +202,44 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.code").exists());
         }
 
+        @Test
+        @DisplayName("요청 한도를 넘어 로그인에 실패한다.")
+        void signIn_tooManyRequests_failure() throws Exception {
+            // given
+            SigninRequest signinRequest = new SigninRequest("aaaa@aaa.com", "password");
+
+            willThrow(new TooManyRequestsException("")).given(authRateLimiter).checkEmail(anyString());
+
+            // when, then
+            mockMvc.perform(post("/auth/signin")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .content(toJsonString(signinRequest)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(jsonPath("$.code").exists());
+
+            verify(authService, never()).signin(any(SigninRequest.class), any(TokenFormat.class));
+        }
+
+        @Test
+        @DisplayName("IP 요청 한도를 넘으면 본문 검증 전에 로그인에 실패한다.")
+        void signIn_ipTooManyRequests_failure() throws Exception {
+            // given
+            SigninRequest signinRequest = new SigninRequest("aaaa", null);
+
+            willThrow(new TooManyRequestsException("")).given(authRateLimiter).checkIp(anyString());
+
+            // when, then
+            mockMvc.perform(post("/auth/signin")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .content(toJsonString(signinRequest)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(jsonPath("$.code").exists());
+
+            verify(authRateLimiter, never()).checkEmail(anyString());
+        }
+
         @Test
         @DisplayName("로그인에 성공한다.")
         void signIn_success() throws Exception {
@@ -196,16 +248,51 @@ class AuthControllerTest {
 
             SigninResponse signinResponse = new SigninResponse("bearerToken");
 
-            given(authService.signin(any(SigninRequest.class))).willReturn(signinResponse);
+            given(authService.signin(any(SigninRequest.class), any(TokenFormat.class))).willReturn(signinResponse);
+
+            // when, then
+            mockMvc.perform(post("/auth/signin")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .content(toJsonString(signinRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(toJsonString(signinResponse)));
+        }
+
+        @Test
+        @DisplayName("tokenFormat=compact 로 compact 토큰 로그인에 성공한다.")
+        void signIn_compactToken_success() throws Exception {
+            // given
+            SigninRequest signinRequest = new SigninRequest("aaaa@aaa.com", "password");
+
+            SigninResponse signinResponse = new SigninResponse("compactToken");
+
+            given(authService.signin(any(SigninRequest.class), eq(TokenFormat.COMPACT))).willReturn(signinResponse);
 
             // when, then
             mockMvc.perform(post("/auth/signin")
+                            .param("tokenFormat", "compact")
                             .contentType(MediaType.APPLICATION_JSON)
                             .accept(MediaType.APPLICATION_JSON)
                             .content(toJsonString(signinRequest)))
                     .andExpect(status().isOk())
                     .andExpect(content().string(toJsonString(signinResponse)));
         }
+
+        @Test
+        @DisplayName("지원하지 않는 tokenFormat 이라 로그인에 실패한다.")
+        void signIn_invalidTokenFormat_failure() throws Exception {
+            // given
+            SigninRequest signinRequest = new SigninRequest("aaaa@aaa.com", "password");
+
+            // when, then
+            mockMvc.perform(post("/auth/signin")
+                            .param("tokenFormat", "tiny")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .content(toJsonString(signinRequest)))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
 }
\ No newline at end of file
@@ -1,11 +1,12 @@
 package org.example.expert.domain.auth.service;
 
 import org.example.expert.config.JwtUtil;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashExecutor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.enums.TokenFormat;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.data.user.UserMockDataUtil;
@@ -19,12 +20,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -35,7 +39,7 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashExecutor passwordHashExecutor;
 
     @Mock
     private JwtUtil jwtUtil;
@@ -49,6 +53,7 @@ class AuthServiceTest {
             // given
             SignupRequest signupRequest = UserMockDataUtil.signupRequest();
 
+            given(userRepository.mightExistByEmail(anyString())).willReturn(true);
             given(userRepository.existsByEmail(anyString())).willReturn(true);
 
             // when
@@ -65,6 +70,7 @@ class AuthServiceTest {
             // given
             SignupRequest signupRequest = UserMockDataUtil.signupRequest_invalidRole();
 
+            given(userRepository.mightExistByEmail(anyString())).willReturn(true);
             given(userRepository.existsByEmail(anyString())).willReturn(false);
 
             // when
@@ -84,8 +90,9 @@ class AuthServiceTest {
             User user = UserMockDataUtil.user();
             String bearerToken = "bearerToken";
 
+            given(userRepository.mightExistByEmail(anyString())).willReturn(true);
             given(userRepository.existsByEmail(anyString())).willReturn(false);
-            given(userRepository.save(any(User.class))).willReturn(user);
+            given(userRepository.saveAndFlush(any(User.class))).willReturn(user);
             given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn(bearerToken);
 
             // when
@@ -93,6 +100,44 @@ class AuthServiceTest {
 
             // then
             assertNotNull(result.getBearerToken());
+            verify(userRepository).registerEmail(user.getEmail());
+        }
+
+        @Test
+        @DisplayName("Bloom filter 에 없는 이메일이면 exists 쿼리 없이 회원가입에 성공한다.")
+        public void signup_absentInFilter_skipsExistsQuery() {
+            // given
+            SignupRequest signupRequest = UserMockDataUtil.signupRequest();
+
+            User user = UserMockDataUtil.user();
+
+            given(userRepository.mightExistByEmail(anyString())).willReturn(false);
+            given(userRepository.saveAndFlush(any(User.class))).willReturn(user);
+            given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn("bearerToken");
+
+            // when
+            authService.signup(signupRequest);
+
+            // then
+            verify(userRepository, never()).existsByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("Bloom filter 를 통과했지만 unique 제약에 걸려 회원가입에 실패한다.")
+        public void signup_uniqueConstraintViolation_failure() {
+            // given
+            SignupRequest signupRequest = UserMockDataUtil.signupRequest();
+
+            given(userRepository.mightExistByEmail(anyString())).willReturn(false);
+            given(userRepository.saveAndFlush(any(User.class))).willThrow(new DataIntegrityViolationException("email"));
+
+            // when
+            InvalidRequestException exception =
+                    assertThrows(InvalidRequestException.class, () -> authService.signup(signupRequest));
+
+            // then
+            assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+            verify(userRepository, never()).registerEmail(anyString());
         }
     }
 
@@ -124,7 +169,7 @@ class AuthServiceTest {
             User user = UserMockDataUtil.user();
 
             given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
-            given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
+            given(passwordHashExecutor.matches(anyString(), anyString())).willReturn(false);
 
             // when
             AuthException exception =
@@ -144,7 +189,7 @@ class AuthServiceTest {
             String bearerToken = "bearerToken";
 
             given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
-            given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+            given(passwordHashExecutor.matches(anyString(), anyString())).willReturn(true);
             given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn(bearerToken);
 
             // when
@@ -153,5 +198,25 @@ class AuthServiceTest {
             // then
             assertNotNull(result);
         }
+
+        @Test
+        @DisplayName("compact 형식을 요청하면 compact 토큰을 발급한다.")
+        public void singin_compactToken_success() {
+            // given
+            SigninRequest signinRequest = UserMockDataUtil.signinRequest();
+
+            User user = UserMockDataUtil.user();
+
+            given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+            given(passwordHashExecutor.matches(anyString(), anyString())).willReturn(true);
+            given(jwtUtil.createCompactToken(anyLong())).willReturn("compactToken");
+
+            // when
+            SigninResponse result = authService.signin(signinRequest, TokenFormat.COMPACT);
+
+            // then
+            assertEquals("compactToken", result.getBearerToken());
+            verify(jwtUtil, never()).createToken(anyLong(), anyString(), any(UserRole.class));
+        }
     }
 }
\ No newline at end of file
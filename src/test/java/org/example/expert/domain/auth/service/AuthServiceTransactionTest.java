@@ -0,0 +1,50 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.PasswordHashExecutor;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+class AuthServiceTransactionTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @MockBean
+    private PasswordHashExecutor passwordHashExecutor;
+
+    @Test
+    @DisplayName("비밀번호 해싱과 비교는 트랜잭션 밖에서 하므로 기다리는 동안 DB 커넥션을 붙잡지 않는다.")
+    public void hashing_outsideTransaction() {
+        // given
+        List<Boolean> transactionActive = new CopyOnWriteArrayList<>();
+        given(passwordHashExecutor.encode(anyString())).willAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return "encoded";
+        });
+        given(passwordHashExecutor.matches(anyString(), anyString())).willAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return true;
+        });
+
+        // when
+        authService.signup(new SignupRequest("tx-check@example.com", "Password1", "USER"));
+        authService.signin(new SigninRequest("tx-check@example.com", "Password1"));
+
+        // then
+        assertEquals(List.of(false, false), transactionActive);
+    }
+}
@@ -6,6 +6,7 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.data.comment.CommentMockDataUtil;
+import org.example.expert.domain.todo.service.TodoVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,8 +24,11 @@ import static org.example.expert.utils.TestUtils.toJsonString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CommentController.class)
@@ -32,6 +36,9 @@ class CommentControllerTest {
     @MockBean
     private CommentService commentService;
 
+    @MockBean
+    private TodoVersionService todoVersionService;
+
     @Autowired
     private CommentController commentController;
 
@@ -101,5 +108,25 @@ class CommentControllerTest {
                             .accept(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk());
         }
+
+        @Test
+        @DisplayName("If-None-Match 가 지금 버전과 같으면 comment 목록을 읽지 않고 304 로 응답한다.")
+        public void getComments_notModified() throws Exception {
+            // given
+            long todoId = 1L;
+            String eTag = "\"comments-1-2\"";
+
+            given(todoVersionService.getETag(todoId, "comments")).willReturn(eTag);
+
+            // when
+            mockMvc.perform(get("/todos/{todoId}/comments", todoId)
+                            .header("If-None-Match", eTag)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", eTag));
+
+            // then
+            verify(commentService, never()).getComments(anyLong());
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.repository.CommentSearchSource;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoPageCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,6 +13,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -20,20 +31,72 @@ class CommentAdminServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoPageCache todoPageCache;
+
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+
     @Nested
     @DisplayName("comment 삭제 테스트 케이스")
     public class DeleteComment {
         @Test
-        @DisplayName("comment 삭제에 성공한다.")
+        @DisplayName("comment 삭제에 성공하고 todo 의 댓글 수를 하나 빼고 검색 색인에서도 뺀다.")
         public void deleteComment_success() {
             // given
             long commentId = 1L;
+            long todoId = 2L;
+
+            given(commentRepository.findSearchSourceById(commentId)).willReturn(Optional.of(comment(commentId, todoId, "contents")));
+            given(commentRepository.deleteCommentById(commentId)).willReturn(1);
 
             // when
             commentAdminService.deleteComment(commentId);
 
             // then
-            verify(commentRepository, times(1)).deleteById(commentId);
+            verify(todoRepository, times(1)).addCommentCount(todoId, -1);
+            verify(todoPageCache, times(1)).invalidate();
+            verify(todoSearchIndex, times(1)).removeComment(commentId, todoId, "contents");
         }
+
+        @Test
+        @DisplayName("이미 지워진 comment 라면 댓글 수를 빼지 않는다.")
+        public void deleteComment_alreadyDeleted() {
+            // given
+            long commentId = 1L;
+
+            given(commentRepository.findSearchSourceById(commentId)).willReturn(Optional.of(comment(commentId, 2L, "contents")));
+            given(commentRepository.deleteCommentById(commentId)).willReturn(0);
+
+            // when
+            commentAdminService.deleteComment(commentId);
+
+            // then
+            verify(todoRepository, never()).addCommentCount(anyLong(), anyInt());
+            verify(todoPageCache, never()).invalidate();
+            verify(todoSearchIndex, never()).removeComment(anyLong(), anyLong(), anyString());
+        }
+    }
+
+    private static CommentSearchSource comment(long commentId, long todoId, String contents) {
+        return new CommentSearchSource() {
+            @Override
+            public Long getId() {
+                return commentId;
+            }
+
+            @Override
+            public Long getTodoId() {
+                return todoId;
+            }
+
+            @Override
+            public String getContents() {
+                return contents;
+            }
+        };
     }
 }
\ No newline at end of file
@@ -14,6 +14,8 @@ import org.example.expert.domain.data.user.UserMockDataUtil;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoPageCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -40,6 +43,12 @@ class CommentServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+
+    @Mock
+    private TodoPageCache todoPageCache;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -102,6 +111,7 @@ class CommentServiceTest {
             ReflectionTestUtils.setField(todo, "managers", List.of(manager));
 
             Comment comment = CommentMockDataUtil.comment();
+            ReflectionTestUtils.setField(comment, "id", 1L);
 
             given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
             given(commentRepository.save(any())).willReturn(comment);
@@ -111,6 +121,9 @@ class CommentServiceTest {
 
             // then
             assertNotNull(result);
+            verify(todoSearchIndex).indexComment(1L, todoId, "contents");
+            verify(todoRepository).addCommentCount(todoId, 1);
+            verify(todoPageCache).invalidate();
         }
     }
 
@@ -123,11 +136,9 @@ class CommentServiceTest {
             // given
             long todoId = 1L;
 
-            Comment comment1 = CommentMockDataUtil.comment();
-            Comment comment2 = CommentMockDataUtil.comment();
-            List<Comment> commentList = List.of(comment1, comment2);
+            List<CommentResponse> commentList = List.of(CommentMockDataUtil.commentResponse(), CommentMockDataUtil.commentResponse());
 
-            given(commentRepository.findByTodoIdWithUser(anyLong())).willReturn(commentList);
+            given(commentRepository.findResponsesByTodoId(anyLong())).willReturn(commentList);
 
             // when
             List<CommentResponse> result = commentService.getComments(todoId);
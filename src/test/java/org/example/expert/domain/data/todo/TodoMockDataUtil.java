@@ -52,14 +52,14 @@ public class TodoMockDataUtil {
 
     public static TodoSaveResponse todoSaveResponse() {
         UserResponse userResponse = UserMockDataUtil.userResponse();
-        return new TodoSaveResponse(1L, "title", "contents", "weather", userResponse);
+        return new TodoSaveResponse(1L, "title", "contents", "weather", false, userResponse);
     }
 
     public static Page<TodoResponse> todoResponsePage() {
         UserResponse userResponse = UserMockDataUtil.userResponse();
         List<TodoResponse> todoList = new ArrayList<>();
         for (int i = 0; i < 10; i++) {
-            todoList.add(new TodoResponse((long) i, "title", "title", "weather", userResponse, LocalDateTime.now(), LocalDateTime.now()));
+            todoList.add(new TodoResponse((long) i, "title", "title", "weather", false, 0, 1, userResponse, LocalDateTime.now(), LocalDateTime.now()));
         }
 
         Pageable pageable = PageRequest.of(1, 10);
@@ -69,7 +69,7 @@ public class TodoMockDataUtil {
 
     public static TodoResponse todoResponse() {
         UserResponse userResponse = UserMockDataUtil.userResponse();
-        return new TodoResponse(1L, "title", "title", "weather", userResponse, LocalDateTime.now(), LocalDateTime.now());
+        return new TodoResponse(1L, "title", "title", "weather", false, 0, 1, userResponse, LocalDateTime.now(), LocalDateTime.now());
     }
 
 }
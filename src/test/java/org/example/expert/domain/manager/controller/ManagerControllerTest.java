@@ -6,6 +6,7 @@ import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.service.TodoVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,8 +25,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ManagerController.class)
@@ -33,6 +37,9 @@ class ManagerControllerTest {
     @MockBean
     private ManagerService managerService;
 
+    @MockBean
+    private TodoVersionService todoVersionService;
+
     @Autowired
     private ManagerController managerController;
 
@@ -107,6 +114,26 @@ class ManagerControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(content().string(toJsonString(list)));
         }
+
+        @Test
+        @DisplayName("If-None-Match 가 지금 버전과 같으면 manager 목록을 읽지 않고 304 로 응답한다.")
+        public void getManagers_notModified() throws Exception {
+            // given
+            long todoId = 1L;
+            String eTag = "\"managers-1-2\"";
+
+            given(todoVersionService.getETag(todoId, "managers")).willReturn(eTag);
+
+            // when
+            mockMvc.perform(get("/todos/{todoId}/managers", todoId)
+                            .header("If-None-Match", eTag)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", eTag));
+
+            // then
+            verify(managerService, never()).getManagers(anyLong());
+        }
     }
 
     @Nested
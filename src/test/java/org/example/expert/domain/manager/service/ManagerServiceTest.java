@@ -12,6 +12,7 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoPageCache;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +43,8 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoPageCache todoPageCache;
     @InjectMocks
     private ManagerService managerService;
 
@@ -180,6 +183,8 @@ class ManagerServiceTest {
 
             // then
             assertNotNull(managerSaveResponse);
+            verify(todoRepository).addManagerCount(todoId, 1);
+            verify(todoPageCache).invalidate();
         }
     }
 
@@ -192,7 +197,7 @@ class ManagerServiceTest {
             // given
             long todoId = 1L;
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+            given(todoRepository.existsById(todoId)).willReturn(false);
 
             // when, then
             InvalidRequestException exception =
@@ -206,11 +211,10 @@ class ManagerServiceTest {
         public void getManagers_success() {
             // given
             long todoId = 1L;
-            Todo todo = TodoMockDataUtil.todo();
-            List<Manager> managerList = List.of(ManagerMockDataUtil.manager());
+            List<ManagerResponse> managerList = List.of(ManagerMockDataUtil.managerResponse());
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(managerRepository.findByTodoIdWithUser(anyLong())).willReturn(managerList);
+            given(todoRepository.existsById(todoId)).willReturn(true);
+            given(managerRepository.findResponsesByTodoId(anyLong())).willReturn(managerList);
 
             // when
             List<ManagerResponse> managerResponseList = managerService.getManagers(todoId);
@@ -387,6 +391,8 @@ class ManagerServiceTest {
 
             // then
             verify(managerRepository, times(1)).delete(manager);
+            verify(todoRepository).addManagerCount(todoId, -1);
+            verify(todoPageCache).invalidate();
         }
     }
 
@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TodoAdminController.class)
+class TodoAdminControllerTest {
+    @MockBean
+    private TodoSearchIndex todoSearchIndex;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Nested
+    @DisplayName("todo 검색 재색인 테스트 케이스")
+    public class ReindexTodos {
+        @Test
+        @DisplayName("검색 색인을 다시 만든다.")
+        public void reindexTodos_success() throws Exception {
+            // when, then
+            mockMvc.perform(post("/admin/todos/search/reindex"))
+                    .andExpect(status().isOk());
+
+            verify(todoSearchIndex).rebuild();
+        }
+    }
+}
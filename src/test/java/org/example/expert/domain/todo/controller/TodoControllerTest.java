@@ -1,14 +1,28 @@
 package org.example.expert.domain.todo.controller;
 
+import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.domain.data.comment.CommentMockDataUtil;
+import org.example.expert.domain.data.manager.ManagerMockDataUtil;
 import org.example.expert.domain.data.todo.TodoMockDataUtil;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoDetailService;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -17,12 +31,19 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import static org.example.expert.utils.TestUtils.toJsonString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TodoController.class)
@@ -30,6 +51,15 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoDetailService todoDetailService;
+
+    @MockBean
+    private TodoVersionService todoVersionService;
+
+    @MockBean
+    private TodoBatchService todoBatchService;
+
     @Autowired
     private TodoController todoController;
 
@@ -37,7 +67,9 @@ class TodoControllerTest {
 
     @BeforeEach
     public void setUp() {
-        this.mockMvc = MockMvcBuilders.standaloneSetup(todoController).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(todoController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
     }
 
     @Nested
@@ -91,6 +123,30 @@ class TodoControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("todo 일괄 등록 테스트 케이스")
+    public class SaveTodos {
+        @Test
+        @DisplayName("항목마다 등록 결과를 응답한다.")
+        void saveTodos_success() throws Exception {
+            // given
+            TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                    TodoMockDataUtil.todoSaveRequest(), TodoMockDataUtil.todoSaveRequest(null, "contents")));
+            TodoBatchSaveResponse response = new TodoBatchSaveResponse("Sunny", List.of(
+                    TodoBatchItemResult.created(0, 1L), TodoBatchItemResult.invalid(1, "title must not be blank")));
+
+            given(todoBatchService.saveTodos(any(), any())).willReturn(response);
+
+            // when, then
+            mockMvc.perform(post("/todos/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .content(toJsonString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(toJsonString(response)));
+        }
+    }
+
     @Nested
     @DisplayName("todo 목록 조회 테스트 케이스")
     public class GetTodoList {
@@ -100,7 +156,7 @@ class TodoControllerTest {
             // given
             Page<TodoResponse> todoResponsePage = TodoMockDataUtil.todoResponsePage();
 
-            given(todoService.getTodos(anyInt(), anyInt())).willReturn(todoResponsePage);
+            given(todoService.getTodos(anyInt(), anyInt(), any())).willReturn(todoResponsePage);
 
             // when, then
             mockMvc.perform(get("/todos")
@@ -109,6 +165,122 @@ class TodoControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(content().string(toJsonString(todoResponsePage)));
         }
+
+        @Test
+        @DisplayName("필터 파라미터를 조건으로 묶어 넘긴다.")
+        public void getTodoList_filtered() throws Exception {
+            // given
+            given(todoService.getTodos(anyInt(), anyInt(), any())).willReturn(TodoMockDataUtil.todoResponsePage());
+
+            // when
+            mockMvc.perform(get("/todos")
+                            .param("weather", "Sunny")
+                            .param("userId", "3")
+                            .param("startDate", "2024-10-01")
+                            .param("endDate", "2024-10-31"))
+                    .andExpect(status().isOk());
+
+            // then
+            ArgumentCaptor<TodoSearchCondition> captor = ArgumentCaptor.forClass(TodoSearchCondition.class);
+            verify(todoService).getTodos(eq(1), eq(10), captor.capture());
+            assertEquals("Sunny", captor.getValue().getWeather());
+            assertEquals(3L, captor.getValue().getUserId());
+            assertEquals(LocalDate.of(2024, 10, 1), captor.getValue().getStartDate());
+            assertEquals(LocalDate.of(2024, 10, 31), captor.getValue().getEndDate());
+        }
+
+        @Test
+        @DisplayName("page 나 size 가 범위를 벗어나면 조회하지 않고 400 을 응답한다.")
+        public void getTodoList_outOfRange_failure() throws Exception {
+            // given
+            String[][] outOfRange = {
+                    {"0", "10"},
+                    {"10001", "10"},
+                    {String.valueOf(Integer.MAX_VALUE), "100"},
+                    {"1", "0"},
+                    {"1", "-1"},
+                    {"1", "101"}
+            };
+
+            // when, then
+            for (String[] params : outOfRange) {
+                mockMvc.perform(get("/todos")
+                                .param("page", params[0])
+                                .param("size", params[1]))
+                        .andExpect(status().isBadRequest());
+                mockMvc.perform(get("/todos")
+                                .param("mode", "slice")
+                                .param("page", params[0])
+                                .param("size", params[1]))
+                        .andExpect(status().isBadRequest());
+            }
+            verify(todoService, never()).getTodos(anyInt(), anyInt(), any());
+            verify(todoService, never()).getTodoSlice(anyInt(), anyInt(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("todo slice 목록 조회 테스트 케이스")
+    public class GetTodoSlice {
+        @Test
+        @DisplayName("mode=slice 면 count 없는 목록 조회로 처리한다.")
+        public void getTodoSlice_success() throws Exception {
+            // given
+            TodoSliceResponse todoSliceResponse =
+                    new TodoSliceResponse(TodoMockDataUtil.todoResponsePage().getContent(), 2, 10, true, 100L);
+
+            given(todoService.getTodoSlice(eq(2), eq(10), any())).willReturn(todoSliceResponse);
+
+            // when, then
+            mockMvc.perform(get("/todos")
+                            .param("mode", "slice")
+                            .param("page", "2")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(toJsonString(todoSliceResponse)));
+        }
+    }
+
+    @Nested
+    @DisplayName("todo 커서 목록 조회 테스트 케이스")
+    public class GetTodoListByCursor {
+        @Test
+        @DisplayName("mode=cursor 면 커서 목록 조회로 처리한다.")
+        public void getTodoListByCursor_success() throws Exception {
+            // given
+            TodoCursorResponse todoCursorResponse =
+                    new TodoCursorResponse(TodoMockDataUtil.todoResponsePage().getContent(), "next");
+
+            given(todoService.getTodosByCursor(eq("cursor"), eq(10), any())).willReturn(todoCursorResponse);
+
+            // when, then
+            mockMvc.perform(get("/todos")
+                            .param("mode", "cursor")
+                            .param("cursor", "cursor")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(toJsonString(todoCursorResponse)));
+        }
+    }
+
+    @Nested
+    @DisplayName("todo 검색 테스트 케이스")
+    public class SearchTodos {
+        @Test
+        @DisplayName("/todos/search 는 todo 단건 조회가 아닌 검색으로 처리한다.")
+        public void searchTodos_success() throws Exception {
+            // given
+            TodoCursorResponse todoCursorResponse =
+                    new TodoCursorResponse(TodoMockDataUtil.todoResponsePage().getContent(), "next");
+
+            given(todoService.searchTodos("회의 준비", null, 10)).willReturn(todoCursorResponse);
+
+            // when, then
+            mockMvc.perform(get("/todos/search")
+                            .param("q", "회의 준비"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(toJsonString(todoCursorResponse)));
+        }
     }
 
     @Nested
@@ -131,5 +303,87 @@ class TodoControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(content().string(toJsonString(todoResponse)));
         }
+
+        @Test
+        @DisplayName("todo 조회 응답에 ETag 를 함께 내려준다.")
+        public void getTodo_eTag_success() throws Exception {
+            // given
+            long todoId = 1L;
+            String eTag = "\"todo-1-3\"";
+
+            given(todoVersionService.getETag(todoId, "todo")).willReturn(eTag);
+            given(todoService.getTodo(todoId)).willReturn(TodoMockDataUtil.todoResponse());
+
+            // when, then
+            mockMvc.perform(get("/todos/{todoId}", todoId)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", eTag));
+        }
+
+        @Test
+        @DisplayName("If-None-Match 가 지금 버전과 같으면 todo 를 읽지 않고 304 로 응답한다.")
+        public void getTodo_notModified() throws Exception {
+            // given
+            long todoId = 1L;
+            String eTag = "\"todo-1-3\"";
+
+            given(todoVersionService.getETag(todoId, "todo")).willReturn(eTag);
+
+            // when
+            mockMvc.perform(get("/todos/{todoId}", todoId)
+                            .header("If-None-Match", eTag)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", eTag))
+                    .andExpect(content().string(""));
+
+            // then
+            verify(todoService, never()).getTodo(anyLong());
+        }
+
+        @Test
+        @DisplayName("If-None-Match 가 이전 버전이면 todo 를 다시 내려준다.")
+        public void getTodo_modified_success() throws Exception {
+            // given
+            long todoId = 1L;
+            TodoResponse todoResponse = TodoMockDataUtil.todoResponse();
+
+            given(todoVersionService.getETag(todoId, "todo")).willReturn("\"todo-1-4\"");
+            given(todoService.getTodo(todoId)).willReturn(todoResponse);
+
+            // when, then
+            mockMvc.perform(get("/todos/{todoId}", todoId)
+                            .header("If-None-Match", "\"todo-1-3\"")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"todo-1-4\""))
+                    .andExpect(content().string(toJsonString(todoResponse)));
+        }
+    }
+
+    @Nested
+    @DisplayName("todo 상세 조회 테스트 케이스")
+    public class GetTodoDetail {
+        @Test
+        @DisplayName("todo, 담당자, 댓글 첫 페이지를 한 번에 응답한다.")
+        public void getTodoDetail_success() throws Exception {
+            // given
+            long todoId = 1L;
+            TodoDetailResponse todoDetailResponse = new TodoDetailResponse(
+                    TodoMockDataUtil.todoResponse(),
+                    List.of(ManagerMockDataUtil.managerResponse()),
+                    List.of(CommentMockDataUtil.commentResponse()),
+                    true
+            );
+
+            given(todoDetailService.getTodoDetail(todoId, 5)).willReturn(todoDetailResponse);
+
+            // when, then
+            mockMvc.perform(get("/todos/{todoId}/detail", todoId)
+                            .param("commentSize", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(toJsonString(todoDetailResponse)));
+        }
     }
-}
\ No newline at end of file
+}
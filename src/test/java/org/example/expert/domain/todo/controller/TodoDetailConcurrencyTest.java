@@ -0,0 +1,83 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + TodoDetailConcurrencyTest.CONNECTIONS,
+        "spring.datasource.hikari.connection-timeout=1000",
+        "query.parallel.pool-size=" + TodoDetailConcurrencyTest.CONNECTIONS
+})
+@AutoConfigureMockMvc
+class TodoDetailConcurrencyTest {
+
+    static final int CONNECTIONS = 2;
+    private static final int REQUESTS = CONNECTIONS * 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    @DisplayName("커넥션 풀보다 많은 요청이 동시에 상세 조회해도, 요청 스레드가 커넥션을 붙잡지 않아 모두 성공한다.")
+    public void getTodoDetail_moreRequestsThanConnections() throws Exception {
+        // given
+        User user = userRepository.save(new User("detail-concurrency@example.com", "pw", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        String token = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+
+        ExecutorService requesters = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                statuses.add(requesters.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(get("/todos/{todoId}/detail", todo.getId())
+                                    .header(AUTHORIZATION, token))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+
+            // when
+            start.countDown();
+
+            // then
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, status.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            requesters.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+class TodoBulkRepositoryTest {
+
+    @Autowired
+    private TodoBulkRepository todoBulkRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("todo 와 작성자 담당자 행을 넣고, 넣은 순서대로 id 를 반환한다.")
+    public void insertTodos_success() {
+        // given
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, token_epoch) VALUES (NEXT VALUE FOR users_seq, 'owner@example.com', 'pw', 'USER', 0)");
+        long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'owner@example.com'", Long.class);
+        LocalDateTime now = LocalDateTime.of(2024, 10, 1, 9, 0);
+
+        // when
+        List<Long> ids = todoBulkRepository.insertTodos(
+                List.of(new TodoSaveRequest("first", "a"), new TodoSaveRequest("second", "b")), null, userId, now);
+
+        // then
+        assertEquals(2, ids.size());
+        assertTrue(ids.get(0) < ids.get(1));
+
+        TodoResponse second = todoRepository.findResponseById(ids.get(1)).orElseThrow();
+        assertEquals("second", second.getTitle());
+        assertTrue(second.isWeatherPending());
+        assertEquals(1, second.getManagerCount());
+        assertEquals(now, second.getModifiedAt());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM managers WHERE todo_id = ? AND user_id = ?", Integer.class, ids.get(1), userId));
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Transactional
+class TodoCounterRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+    private long todoId;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, token_epoch) VALUES (NEXT VALUE FOR users_seq, 'owner@example.com', 'pw', 'USER', 0)");
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'owner@example.com'", Long.class);
+
+        // 개수 컬럼 없이 들어간 todo 처럼 개수는 0 으로 두고 담당자 1명, 댓글 2개를 넣는다.
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, weather_pending, user_id) VALUES (NEXT VALUE FOR todos_seq, 'title', 'contents', 'Sunny', false, ?)", userId);
+        todoId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM todos", Long.class);
+        jdbcTemplate.update("INSERT INTO managers (id, user_id, todo_id) VALUES (NEXT VALUE FOR managers_seq, ?, ?)", userId, todoId);
+        jdbcTemplate.update("INSERT INTO comments (id, contents, user_id, todo_id) VALUES (NEXT VALUE FOR comments_seq, 'a', ?, ?)", userId, todoId);
+        jdbcTemplate.update("INSERT INTO comments (id, contents, user_id, todo_id) VALUES (NEXT VALUE FOR comments_seq, 'b', ?, ?)", userId, todoId);
+    }
+
+    @Test
+    @DisplayName("개수가 실제와 다른 todo 만 고치고 version 을 올린다.")
+    public void reconcileCounters_repairsDrift() {
+        // when
+        int repaired = todoRepository.reconcileCounters(todoId, todoId);
+        int repairedAgain = todoRepository.reconcileCounters(todoId, todoId);
+
+        // then
+        assertEquals(1, repaired);
+        assertEquals(0, repairedAgain);
+        TodoResponse todo = todoRepository.findResponseById(todoId).orElseThrow();
+        assertEquals(2, todo.getCommentCount());
+        assertEquals(1, todo.getManagerCount());
+        assertEquals(1L, todoRepository.findVersionById(todoId).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("댓글, 담당자 수를 UPDATE 한 번으로 더하고 뺀다.")
+    public void addCounts() {
+        // when
+        todoRepository.addCommentCount(todoId, 1);
+        todoRepository.addCommentCount(todoId, 1);
+        todoRepository.addManagerCount(todoId, 1);
+        todoRepository.addManagerCount(todoId, -1);
+
+        // then
+        TodoResponse todo = todoRepository.findResponseById(todoId).orElseThrow();
+        assertEquals(2, todo.getCommentCount());
+        assertEquals(0, todo.getManagerCount());
+        assertEquals(4L, todoRepository.findVersionById(todoId).orElseThrow());
+    }
+}
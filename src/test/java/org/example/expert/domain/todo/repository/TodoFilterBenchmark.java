@@ -0,0 +1,162 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필터가 붙은 GET /todos 의 조회 비용. H2 에 user 100명, todo 10만 건을 넣고 TodoService 를 그대로 호출한다 (count 쿼리 포함).
+ * <p>
+ * Setup 에서 각 필터로 Hibernate 가 만든 SQL 을 잡아 같은 파라미터로 EXPLAIN 하고, 실행 계획을 출력한다.
+ * 계획에 tableScan 이 있으면 벤치마크를 시작하지 않는다.
+ * H2 는 FK 마다 user_id 단일 인덱스를 따로 만들고, 응답 컬럼을 덮지 못하는 복합 인덱스보다 이쪽을 고르기도 한다.
+ * 이때도 작성자의 todo 만 읽지만 정렬은 따로 한다. MySQL 은 user_id 로 시작하는 복합 인덱스를 FK 인덱스로 같이 쓴다.
+ * <p>
+ * H2 는 테이블이 바뀌지 않았다면 직전과 같은 쿼리의 결과를 재사용하므로, 매번 다른 weather / user / 날짜를 돌아가며 넣는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoFilterBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int USERS = 100;
+    private static final int SIZE = 10;
+    private static final int VARIANTS = 16;
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Param({"weather", "owner", "ownerWeather", "dateRange"})
+    private String filter;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private final TodoSearchCondition[] conditions = new TodoSearchCondition[VARIANTS];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN",
+                        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" + SqlCapture.class.getName())
+                .run();
+        todoService = context.getBean(TodoService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{"bench" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, user_role, token_epoch) VALUES (NEXT VALUE FOR users_seq, ?, 'pw', 'USER', 0)", users);
+        // id 는 시퀀스 블록 단위로 건너뛰므로 연속되지 않는다.
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+
+        // 약 3년에 걸쳐 15분마다 한 건씩, weather 와 작성자는 골고루 섞는다.
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp timestamp = Timestamp.valueOf(BASE.plusMinutes(i * 15L));
+            rows.add(new Object[]{"title" + i, "contents" + i, WEATHERS[i % WEATHERS.length],
+                    userIds.get((i * 7) % USERS), timestamp, timestamp});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, contents, weather, weather_pending, user_id, created_at, modified_at) " +
+                "VALUES (NEXT VALUE FOR todos_seq, ?, ?, ?, false, ?, ?, ?)", rows);
+        // 운영 DB 처럼 컬럼 선택도 통계를 채워 두어야 옵티마이저가 복합 인덱스를 고른다.
+        jdbcTemplate.execute("ANALYZE");
+
+        for (int i = 0; i < VARIANTS; i++) {
+            String weather = WEATHERS[i % WEATHERS.length];
+            long userId = userIds.get(i * 5);
+            LocalDate day = BASE.toLocalDate().plusDays(i * 60L);
+            conditions[i] = switch (filter) {
+                case "weather" -> new TodoSearchCondition(weather, null, null, null);
+                case "owner" -> new TodoSearchCondition(null, userId, null, null);
+                case "ownerWeather" -> new TodoSearchCondition(weather, userId, null, null);
+                case "dateRange" -> new TodoSearchCondition(null, null, day, day.plusDays(6));
+                default -> throw new IllegalArgumentException(filter);
+            };
+        }
+
+        explain(jdbcTemplate, conditions[0]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TodoResponse> filtered() {
+        return todoService.getTodos(1, SIZE, conditions[next++ & (VARIANTS - 1)]);
+    }
+
+    // 목록과 count 쿼리를 한 번씩 실행해 SQL 을 잡고, 조건 순서(weather, userId, 시작, 끝) 대로 파라미터를 넣어 EXPLAIN 한다.
+    private void explain(JdbcTemplate jdbcTemplate, TodoSearchCondition condition) {
+        List<Object> args = new ArrayList<>();
+        if (condition.getWeather() != null) {
+            args.add(condition.getWeather());
+        }
+        if (condition.getUserId() != null) {
+            args.add(condition.getUserId());
+        }
+        if (condition.getStartDate() != null) {
+            args.add(Timestamp.valueOf(condition.getStartDate().atStartOfDay()));
+        }
+        if (condition.getEndDate() != null) {
+            args.add(Timestamp.valueOf(condition.getEndDate().plusDays(1).atStartOfDay()));
+        }
+
+        SqlCapture.STATEMENTS.clear();
+        SqlCapture.capturingThread = Thread.currentThread();
+        todoService.getTodos(1, SIZE, condition);
+        SqlCapture.capturingThread = null;
+
+        for (String sql : SqlCapture.STATEMENTS) {
+            List<Object> params = new ArrayList<>(args);
+            // 목록 쿼리는 뒤에 OFFSET, LIMIT 파라미터가 붙는다.
+            if (sql.chars().filter(c -> c == '?').count() > args.size()) {
+                params.add(0);
+                params.add(SIZE);
+            }
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, params.toArray());
+            System.out.println("[" + filter + "] " + plan.replaceAll("\\s+", " "));
+            if (plan.contains("tableScan")) {
+                throw new IllegalStateException(filter + " 필터가 인덱스를 타지 않습니다: " + plan);
+            }
+        }
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+        static volatile Thread capturingThread;
+
+        @Override
+        public String inspect(String sql) {
+            // 스케줄러 등 다른 스레드의 쿼리는 빼고, 목록 조회를 실행한 스레드의 쿼리만 모은다.
+            if (capturingThread == Thread.currentThread() && sql.contains("todos")) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Transactional
+class TodoFilterRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long owner;
+    private long other;
+
+    @BeforeEach
+    public void setUp() {
+        owner = insertUser("owner@example.com");
+        other = insertUser("other@example.com");
+
+        insertTodo(owner, "Sunny", LocalDateTime.of(2024, 10, 1, 9, 0));
+        insertTodo(owner, "Rainy", LocalDateTime.of(2024, 10, 2, 9, 0));
+        insertTodo(owner, "Sunny", LocalDateTime.of(2024, 10, 3, 23, 59));
+        insertTodo(other, "Sunny", LocalDateTime.of(2024, 10, 4, 9, 0));
+    }
+
+    @Test
+    @DisplayName("작성자와 날씨가 모두 맞는 todo 를 수정일 내림차순으로 조회한다.")
+    public void findFiltered_ownerAndWeather() {
+        // given
+        TodoSearchCondition condition = new TodoSearchCondition("Sunny", owner, null, null);
+
+        // when
+        List<TodoResponse> result = todoRepository.findFiltered(condition, null, 0, 10);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(LocalDateTime.of(2024, 10, 3, 23, 59), result.get(0).getModifiedAt());
+        assertEquals("owner@example.com", result.get(0).getUser().getEmail());
+        assertEquals(2, todoRepository.countFiltered(condition));
+    }
+
+    @Test
+    @DisplayName("종료일은 그날 하루 전체를 포함한다.")
+    public void findFiltered_dateRange() {
+        // given
+        TodoSearchCondition condition = new TodoSearchCondition(null, null, LocalDate.of(2024, 10, 2), LocalDate.of(2024, 10, 3));
+
+        // when
+        List<TodoResponse> result = todoRepository.findFiltered(condition, null, 0, 10);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals("Sunny", result.get(0).getWeather());
+        assertEquals("Rainy", result.get(1).getWeather());
+    }
+
+    @Test
+    @DisplayName("커서가 있다면 커서 다음부터 조회한다.")
+    public void findFiltered_afterCursor() {
+        // given
+        TodoSearchCondition condition = new TodoSearchCondition("Sunny", null, null, null);
+        TodoResponse first = todoRepository.findFiltered(condition, null, 0, 1).get(0);
+
+        // when
+        List<TodoResponse> result = todoRepository.findFiltered(
+                condition, new TodoCursor(first.getModifiedAt(), first.getId()), 0, 10);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(LocalDateTime.of(2024, 10, 3, 23, 59), result.get(0).getModifiedAt());
+    }
+
+    private long insertUser(String email) {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, token_epoch) VALUES (NEXT VALUE FOR users_seq, ?, 'pw', 'USER', 0)", email);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+
+    private void insertTodo(long userId, String weather, LocalDateTime modifiedAt) {
+        Timestamp timestamp = Timestamp.valueOf(modifiedAt);
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, weather_pending, user_id, created_at, modified_at) " +
+                "VALUES (NEXT VALUE FOR todos_seq, 'title', 'contents', ?, false, ?, ?, ?)", weather, userId, timestamp, timestamp);
+    }
+}
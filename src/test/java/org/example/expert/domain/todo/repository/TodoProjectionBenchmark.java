@@ -0,0 +1,136 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회를 엔티티로 읽어 DTO 로 옮기던 기존 방식과, 응답에 필요한 컬럼만 읽는 프로젝션 쿼리의 비교.
+ * 둘 다 서비스처럼 읽기 전용 트랜잭션 안에서 실행하며, 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoProjectionBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"10", "100", "1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private EntityManager entityManager;
+    private TodoRepository todoRepository;
+    private CommentRepository commentRepository;
+    private long todoId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        entityManager = context.getBean(EntityManager.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, token_epoch) VALUES (NEXT VALUE FOR users_seq, 'bench@example.com', 'pw', 'USER', 0)");
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'bench@example.com'", Long.class);
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> todos = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp timestamp = Timestamp.valueOf(base.plusSeconds(i));
+            todos.add(new Object[]{"title" + i, "contents" + i, "Sunny", userId, timestamp, timestamp});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, contents, weather, weather_pending, user_id, created_at, modified_at) " +
+                "VALUES (NEXT VALUE FOR todos_seq, ?, ?, ?, false, ?, ?, ?)", todos);
+
+        todoId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM todos", Long.class);
+        List<Object[]> comments = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            comments.add(new Object[]{"comment" + i, userId, todoId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, contents, user_id, todo_id) VALUES (NEXT VALUE FOR comments_seq, ?, ?, ?)", comments);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> todoEntity() {
+        return readOnly.execute(status -> {
+            List<Todo> todos = entityManager
+                    .createQuery("SELECT t FROM Todo t LEFT JOIN FETCH t.user ORDER BY t.modifiedAt DESC, t.id DESC", Todo.class)
+                    .setMaxResults(rows)
+                    .getResultList();
+
+            List<TodoResponse> responses = new ArrayList<>(todos.size());
+            for (Todo todo : todos) {
+                User user = todo.getUser();
+                responses.add(new TodoResponse(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(),
+                        todo.isWeatherPending(), todo.getCommentCount(), todo.getManagerCount(),
+                        new UserResponse(user.getId(), user.getEmail()),
+                        todo.getCreatedAt(), todo.getModifiedAt()));
+            }
+            return responses;
+        });
+    }
+
+    @Benchmark
+    public List<TodoResponse> todoProjection() {
+        return readOnly.execute(status -> todoRepository.findFirstPage(PageRequest.of(0, rows)));
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentEntity() {
+        return readOnly.execute(status -> {
+            List<Comment> comments = entityManager
+                    .createQuery("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId", Comment.class)
+                    .setParameter("todoId", todoId)
+                    .getResultList();
+
+            List<CommentResponse> responses = new ArrayList<>(comments.size());
+            for (Comment comment : comments) {
+                User user = comment.getUser();
+                responses.add(new CommentResponse(comment.getId(), comment.getContents(),
+                        new UserResponse(user.getId(), user.getEmail())));
+            }
+            return responses;
+        });
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentProjection() {
+        return readOnly.execute(status -> commentRepository.findResponsesByTodoId(todoId));
+    }
+}
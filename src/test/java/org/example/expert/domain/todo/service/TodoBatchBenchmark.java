@@ -0,0 +1,81 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * todo 1000건을 POST /todos 경로(TodoService.saveTodo) 로 한 건씩 넣을 때와 TodoBatchService 로 한 번에 넣을 때의 초당 저장 건수.
+ * H2 에 넣고, 날씨 API 를 부르지 않도록 todo.weather.async=true 로 띄운다.
+ * 한 건씩 넣으면 todo 마다 트랜잭션 하나와 todos, managers INSERT 를 따로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(TodoBatchBenchmark.TODOS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoBatchBenchmark {
+
+    static final int TODOS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoBatchService todoBatchService;
+    private AuthUser authUser;
+    private List<TodoSaveRequest> todos;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+                // application.yml 보다 우선하도록 기본 속성이 아닌 실행 인자로 넘긴다. 측정 중에는 날씨를 채우지 않는다.
+                .run("--todo.weather.async=true", "--todo.weather.enrich-interval-millis=3600000");
+        todoService = context.getBean(TodoService.class);
+        todoBatchService = context.getBean(TodoBatchService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, token_epoch) VALUES (NEXT VALUE FOR users_seq, 'bench@example.com', 'pw', 'USER', 0)");
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'bench@example.com'", Long.class);
+        authUser = new AuthUser(userId, "bench@example.com", UserRole.USER);
+
+        todos = new ArrayList<>(TODOS);
+        for (int i = 0; i < TODOS; i++) {
+            todos.add(new TodoSaveRequest("title" + i, "contents" + i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int single() {
+        int saved = 0;
+        for (TodoSaveRequest todo : todos) {
+            todoService.saveTodo(authUser, todo);
+            saved++;
+        }
+        return saved;
+    }
+
+    @Benchmark
+    public TodoBatchSaveResponse batch() {
+        return todoBatchService.saveTodos(authUser, new TodoBatchSaveRequest(todos));
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.validation.Validation;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.data.user.UserMockDataUtil;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.repository.TodoBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoBatchServiceTest {
+
+    @Mock
+    private TodoBulkRepository todoBulkRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private TodoCountCache todoCountCache;
+    @Mock
+    private TodoPageCache todoPageCache;
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+
+    private TodoBatchService todoBatchService;
+    private final AuthUser authUser = UserMockDataUtil.authUser();
+
+    @BeforeEach
+    public void setUp() {
+        todoBatchService = new TodoBatchService(todoBulkRepository, weatherClient, todoCountCache, todoPageCache, todoSearchIndex,
+                Validation.buildDefaultValidatorFactory().getValidator(), mock(PlatformTransactionManager.class),
+                false, 2, 5);
+    }
+
+    @Nested
+    @DisplayName("todo 일괄 등록 테스트 케이스")
+    public class SaveTodos {
+        @Test
+        @DisplayName("잘못된 항목은 INVALID 로 돌려주고, 나머지는 날씨를 한 번만 조회해 묶음 단위로 저장한다.")
+        public void saveTodos_success() {
+            // given
+            TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                    new TodoSaveRequest("t0", "c0"),
+                    new TodoSaveRequest("", "c1"),
+                    new TodoSaveRequest("t2", "c2"),
+                    new TodoSaveRequest("t3", "c3")
+            ));
+            given(weatherClient.getTodayWeather()).willReturn("Sunny");
+            given(todoBulkRepository.insertTodos(any(), eq("Sunny"), eq(authUser.getId()), any()))
+                    .willReturn(List.of(10L, 12L))
+                    .willReturn(List.of(13L));
+
+            // when
+            TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, request);
+
+            // then
+            assertEquals(3, response.getCreatedCount());
+            assertEquals(1, response.getFailedCount());
+            assertEquals("Sunny", response.getWeather());
+
+            List<TodoBatchItemResult> results = response.getResults();
+            assertEquals(10L, results.get(0).getId());
+            assertEquals(TodoBatchItemResult.Status.INVALID, results.get(1).getStatus());
+            assertTrue(results.get(1).getMessage().startsWith("title "));
+            assertEquals(12L, results.get(2).getId());
+            assertEquals(13L, results.get(3).getId());
+
+            verify(weatherClient, times(1)).getTodayWeather();
+            verify(todoBulkRepository, times(2)).insertTodos(any(), any(), anyLong(), any());
+            verify(todoSearchIndex).indexTodo(12L, "t2", "c2");
+            verify(todoCountCache).add(2);
+            verify(todoCountCache).add(1);
+        }
+
+        @Test
+        @DisplayName("한 묶음의 저장이 실패하면 그 묶음만 FAILED 가 되고 다음 묶음은 저장한다.")
+        public void saveTodos_chunkFailure() {
+            // given
+            List<TodoSaveRequest> todos = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                todos.add(new TodoSaveRequest("t" + i, "c" + i));
+            }
+            given(weatherClient.getTodayWeather()).willReturn("Sunny");
+            given(todoBulkRepository.insertTodos(any(), any(), anyLong(), any()))
+                    .willThrow(new DataIntegrityViolationException("fail"))
+                    .willReturn(List.of(7L));
+
+            // when
+            TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, new TodoBatchSaveRequest(todos));
+
+            // then
+            assertEquals(1, response.getCreatedCount());
+            assertEquals(TodoBatchItemResult.Status.FAILED, response.getResults().get(0).getStatus());
+            assertEquals(TodoBatchItemResult.Status.FAILED, response.getResults().get(1).getStatus());
+            assertEquals(7L, response.getResults().get(2).getId());
+            verify(todoCountCache, times(1)).add(1);
+        }
+
+        @Test
+        @DisplayName("모든 항목이 잘못되었다면 날씨를 조회하지 않는다.")
+        public void saveTodos_allInvalid() {
+            // given
+            TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(new TodoSaveRequest("title", null)));
+
+            // when
+            TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, request);
+
+            // then
+            assertEquals(0, response.getCreatedCount());
+            assertEquals(1, response.getFailedCount());
+            verify(weatherClient, never()).getTodayWeather();
+            verifyNoInteractions(todoBulkRepository);
+        }
+
+        @Test
+        @DisplayName("한 번에 등록할 수 있는 건수를 넘으면 실패한다.")
+        public void saveTodos_tooMany_failure() {
+            // given
+            List<TodoSaveRequest> todos = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                todos.add(new TodoSaveRequest("t", "c"));
+            }
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoBatchService.saveTodos(authUser, new TodoBatchSaveRequest(todos)));
+
+            // then
+            assertEquals("todo 는 한 번에 5건까지 등록할 수 있습니다.", exception.getMessage());
+        }
+    }
+}
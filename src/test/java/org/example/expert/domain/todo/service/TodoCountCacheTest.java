@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class TodoCountCacheTest {
+
+    private TodoRepository todoRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TodoCountCache todoCountCache;
+
+    @BeforeEach
+    public void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        todoCountCache = new TodoCountCache(todoRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 세고, 이후에는 저장한 건수를 더한 값을 반환한다.")
+    public void get_countsOnceAndAddsSavedTodos() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+
+        // when
+        long first = todoCountCache.get();
+        todoCountCache.add(1);
+        todoCountCache.add(2);
+        long second = todoCountCache.get();
+
+        // then
+        assertEquals(10L, first);
+        assertEquals(13L, second);
+        verify(todoRepository, times(1)).count();
+        assertEquals(13.0, meterRegistry.get("todo.count.approximate").gauge().value());
+    }
+
+    @Test
+    @DisplayName("세기 전에 저장한 건수는 더하지 않는다.")
+    public void add_beforeLoad_ignored() {
+        // given
+        given(todoRepository.count()).willReturn(5L);
+
+        // when
+        todoCountCache.add(1);
+
+        // then
+        assertEquals(5L, todoCountCache.get());
+    }
+
+    @Test
+    @DisplayName("주기적으로 다시 세어 다른 노드에서 바뀐 건수를 맞춘다.")
+    public void refresh_correctsDrift() {
+        // given
+        given(todoRepository.count()).willReturn(10L, 25L);
+        todoCountCache.get();
+        todoCountCache.add(1);
+
+        // when
+        todoCountCache.refresh();
+
+        // then
+        assertEquals(25L, todoCountCache.get());
+    }
+}
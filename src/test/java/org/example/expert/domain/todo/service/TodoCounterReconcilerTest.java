@@ -0,0 +1,69 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCounterReconcilerTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoPageCache todoPageCache;
+
+    private TodoCounterReconciler todoCounterReconciler;
+
+    @BeforeEach
+    public void setUp() {
+        todoCounterReconciler = new TodoCounterReconciler(todoRepository, todoPageCache, 2);
+    }
+
+    @Test
+    @DisplayName("id 범위를 배치 크기만큼 나누어 끝까지 맞추고, 고친 것이 있으면 목록 캐시를 비운다.")
+    public void reconcile_batches() {
+        // given
+        given(todoRepository.findIdsAfter(0L, PageRequest.of(0, 2))).willReturn(List.of(1L, 3L));
+        given(todoRepository.findIdsAfter(3L, PageRequest.of(0, 2))).willReturn(List.of(4L, 7L));
+        given(todoRepository.findIdsAfter(7L, PageRequest.of(0, 2))).willReturn(List.of(9L));
+        given(todoRepository.reconcileCounters(1L, 3L)).willReturn(1);
+        given(todoRepository.reconcileCounters(4L, 7L)).willReturn(0);
+        given(todoRepository.reconcileCounters(9L, 9L)).willReturn(1);
+
+        // when
+        int repaired = todoCounterReconciler.reconcile();
+
+        // then
+        assertEquals(2, repaired);
+        verify(todoPageCache).invalidate();
+    }
+
+    @Test
+    @DisplayName("모두 맞다면 목록 캐시를 비우지 않는다.")
+    public void reconcile_nothingToRepair() {
+        // given
+        given(todoRepository.findIdsAfter(0L, PageRequest.of(0, 2))).willReturn(List.of(1L, 2L));
+        given(todoRepository.findIdsAfter(2L, PageRequest.of(0, 2))).willReturn(List.of());
+        given(todoRepository.reconcileCounters(1L, 2L)).willReturn(0);
+
+        // when
+        int repaired = todoCounterReconciler.reconcile();
+
+        // then
+        assertEquals(0, repaired);
+        verify(todoPageCache, never()).invalidate();
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * todo 화면 하나를 그리는 데 걸리는 시간. 실제 서버를 띄우고 HTTP 로 호출한다.
+ * threeCalls 는 기존처럼 /todos/{id}, /todos/{id}/managers, /todos/{id}/comments 를 차례로 부르고,
+ * detail 은 /todos/{id}/detail 한 번으로 같은 내용(댓글은 첫 페이지)을 받는다.
+ * <p>
+ * H2 는 테이블이 바뀌지 않았다면 직전과 같은 쿼리의 결과를 재사용하므로, 16개의 todo 를 돌아가며 읽는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoDetailBenchmark {
+
+    private static final int TODOS = 16;
+    private static final int MANAGERS = 3;
+    private static final int COMMENT_PAGE = 10;
+
+    @Param({"10", "100"})
+    private int comments;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String authorization;
+    private final long[] todoIds = new long[TODOS];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newHttpClient();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i <= MANAGERS; i++) {
+            users.add(new Object[]{"bench" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, user_role, token_epoch) VALUES (NEXT VALUE FOR users_seq, ?, 'pw', 'USER', 0)", users);
+        // id 는 시퀀스 블록 단위로 건너뛰므로 연속되지 않는다. 0번이 작성자, 나머지가 담당자
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+        long ownerId = userIds.get(0);
+        authorization = context.getBean(JwtUtil.class).createToken(ownerId, "bench0@example.com", UserRole.USER);
+
+        for (int i = 0; i < TODOS; i++) {
+            jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, weather_pending, user_id, created_at, modified_at) " +
+                    "VALUES (NEXT VALUE FOR todos_seq, ?, 'contents', 'Sunny', false, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", "title" + i, ownerId);
+            long todoId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM todos", Long.class);
+            todoIds[i] = todoId;
+
+            List<Object[]> managers = new ArrayList<>();
+            for (int m = 1; m <= MANAGERS; m++) {
+                managers.add(new Object[]{userIds.get(m), todoId});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO managers (id, user_id, todo_id) VALUES (NEXT VALUE FOR managers_seq, ?, ?)", managers);
+
+            List<Object[]> rows = new ArrayList<>();
+            for (int c = 0; c < comments; c++) {
+                rows.add(new Object[]{"comment" + c, userIds.get(1 + c % MANAGERS), todoId});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO comments (id, contents, user_id, todo_id) VALUES (NEXT VALUE FOR comments_seq, ?, ?, ?)", rows);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int threeCalls() throws IOException, InterruptedException {
+        long todoId = todoIds[next++ & (TODOS - 1)];
+        return get("/todos/" + todoId).length()
+                + get("/todos/" + todoId + "/managers").length()
+                + get("/todos/" + todoId + "/comments").length();
+    }
+
+    @Benchmark
+    public int detail() throws IOException, InterruptedException {
+        long todoId = todoIds[next++ & (TODOS - 1)];
+        return get("/todos/" + todoId + "/detail?commentSize=" + COMMENT_PAGE).length();
+    }
+
+    private String get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " 응답 코드 " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.ParallelQueryExecutor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.data.comment.CommentMockDataUtil;
+import org.example.expert.domain.data.manager.ManagerMockDataUtil;
+import org.example.expert.domain.data.todo.TodoMockDataUtil;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TodoDetailServiceTest {
+
+    private TodoRepository todoRepository;
+    private ManagerRepository managerRepository;
+    private CommentRepository commentRepository;
+    private ParallelQueryExecutor parallelQueryExecutor;
+    private TodoDetailService todoDetailService;
+
+    @BeforeEach
+    public void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        managerRepository = mock(ManagerRepository.class);
+        commentRepository = mock(CommentRepository.class);
+        parallelQueryExecutor = new ParallelQueryExecutor(new SimpleMeterRegistry(), 2, 8, Duration.ofMillis(500));
+        todoDetailService = new TodoDetailService(todoRepository, managerRepository, commentRepository, parallelQueryExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        parallelQueryExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("todo 가 없어 상세 조회에 실패한다.")
+    public void getTodoDetail_notFoundTodo_failure() {
+        // given
+        given(todoRepository.findResponseById(1L)).willReturn(Optional.empty());
+
+        // when
+        InvalidRequestException exception =
+                assertThrows(InvalidRequestException.class, () -> todoDetailService.getTodoDetail(1L, 10));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("commentSize 가 범위를 벗어나면 쿼리 없이 실패한다.")
+    public void getTodoDetail_invalidCommentSize_failure() {
+        for (int commentSize : new int[]{0, -1, TodoDetailService.MAX_COMMENT_SIZE + 1, Integer.MAX_VALUE}) {
+            // when
+            InvalidRequestException exception =
+                    assertThrows(InvalidRequestException.class, () -> todoDetailService.getTodoDetail(1L, commentSize));
+
+            // then
+            assertEquals("commentSize 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+        }
+        verifyNoInteractions(todoRepository, managerRepository, commentRepository);
+    }
+
+    @Test
+    @DisplayName("todo, 담당자, 댓글 첫 페이지를 반환하고, 댓글이 더 있다면 알려준다.")
+    public void getTodoDetail_success() {
+        // given
+        List<CommentResponse> comments = List.of(
+                CommentMockDataUtil.commentResponse(), CommentMockDataUtil.commentResponse(), CommentMockDataUtil.commentResponse());
+
+        given(todoRepository.findResponseById(1L)).willReturn(Optional.of(TodoMockDataUtil.todoResponse()));
+        given(managerRepository.findResponsesByTodoId(1L)).willReturn(List.of(ManagerMockDataUtil.managerResponse()));
+        given(commentRepository.findPageResponsesByTodoId(1L, PageRequest.of(0, 3))).willReturn(comments);
+
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(1L, 2);
+
+        // then
+        assertEquals(1L, response.getTodo().getId());
+        assertEquals(1, response.getManagers().size());
+        assertEquals(2, response.getComments().size());
+        assertTrue(response.isHasMoreComments());
+    }
+
+    @Test
+    @DisplayName("담당자와 댓글은 todo 를 읽는 동안 다른 스레드에서 동시에 읽는다.")
+    public void getTodoDetail_loadsChildrenInParallel() {
+        // given
+        CountDownLatch childrenStarted = new CountDownLatch(2);
+        given(managerRepository.findResponsesByTodoId(1L)).willAnswer(invocation -> {
+            childrenStarted.countDown();
+            return List.of();
+        });
+        given(commentRepository.findPageResponsesByTodoId(1L, PageRequest.of(0, 11))).willAnswer(invocation -> {
+            childrenStarted.countDown();
+            return List.of();
+        });
+        // todo 쿼리가 끝나기 전에 나머지 두 쿼리가 시작되어야 한다.
+        given(todoRepository.findResponseById(1L)).willAnswer(invocation -> {
+            assertTrue(childrenStarted.await(5, TimeUnit.SECONDS));
+            return Optional.of(TodoMockDataUtil.todoResponse());
+        });
+
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(1L, 10);
+
+        // then
+        assertTrue(response.getComments().isEmpty());
+        assertFalse(response.isHasMoreComments());
+    }
+
+    @Test
+    @DisplayName("담당자나 댓글을 제시간에 읽지 못하면 기다리지 않고 실패한다.")
+    public void getTodoDetail_slowChild_serviceUnavailable() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        given(managerRepository.findResponsesByTodoId(1L)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        given(commentRepository.findPageResponsesByTodoId(1L, PageRequest.of(0, 11))).willReturn(List.of());
+        given(todoRepository.findResponseById(1L)).willReturn(Optional.of(TodoMockDataUtil.todoResponse()));
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(ServiceUnavailableException.class, () -> todoDetailService.getTodoDetail(1L, 10));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        release.countDown();
+
+        // then
+        assertTrue(elapsedMillis < 2000, "걸린 시간: " + elapsedMillis + "ms");
+    }
+}
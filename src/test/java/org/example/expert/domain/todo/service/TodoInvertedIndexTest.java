@@ -0,0 +1,204 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.service.TodoSearchIndex.Hit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TodoInvertedIndexTest {
+
+    @Test
+    @DisplayName("영문은 단어로, 한글은 두 글자씩 잘라 토큰을 만든다.")
+    public void tokenize_wordsAndBigrams() {
+        // when
+        List<String> tokens = TodoInvertedIndex.tokenize("Spring 회의를 준비, v2");
+
+        // then
+        assertEquals(List.of("spring", "회의", "의를", "준비", "v2"), tokens);
+    }
+
+    @Test
+    @DisplayName("문서는 두 글자씩 자른 토큰에 더해 한 글자씩도 색인한다.")
+    public void tokenizeDocument_withUnigrams() {
+        // when
+        List<String> tokens = TodoInvertedIndex.tokenizeDocument("밥을 먹다");
+
+        // then
+        assertEquals(List.of("밥", "밥을", "을", "먹", "먹다", "다"), tokens);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어로도 그 글자가 들어간 todo 를 찾는다.")
+    public void search_singleCharacter() {
+        // given
+        TodoInvertedIndex index = new TodoInvertedIndex();
+        index.addTodo(1L, "점심", "밥을 먹다");
+        index.addTodo(2L, "국밥", "");
+        index.addTodo(3L, "빵", "");
+
+        // when
+        List<Hit> hits = index.search("밥", null, 10);
+
+        // then
+        assertEquals(List.of(1L, 2L), hits.stream().map(Hit::todoId).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함한 todo 만 찾는다.")
+    public void search_matchesAllTerms() {
+        // given
+        TodoInvertedIndex index = new TodoInvertedIndex();
+        index.addTodo(1L, "주간 회의", "안건 정리");
+        index.addTodo(2L, "회의실 예약", "3층");
+
+        // when
+        List<Hit> hits = index.search("회의 안건", null, 10);
+
+        // then
+        assertEquals(List.of(1L), hits.stream().map(Hit::todoId).toList());
+    }
+
+    @Test
+    @DisplayName("제목에 나온 단어가 댓글에만 나온 단어보다 순위가 높다.")
+    public void search_titleRanksHigher() {
+        // given
+        TodoInvertedIndex index = new TodoInvertedIndex();
+        index.addTodo(1L, "장보기", "우유 사기");
+        index.addComment(10L, 1L, "배포 전에 확인");
+        index.addTodo(2L, "배포", "릴리스 노트 작성");
+        index.addTodo(3L, "청소", "거실");
+
+        // when
+        List<Hit> hits = index.search("배포", null, 10);
+
+        // then
+        assertEquals(List.of(2L, 1L), hits.stream().map(Hit::todoId).toList());
+    }
+
+    @Test
+    @DisplayName("같은 todo, 댓글을 다시 넣으면 무시한다.")
+    public void add_duplicate_ignored() {
+        // given
+        TodoInvertedIndex index = new TodoInvertedIndex();
+        index.addTodo(1L, "배포", "준비");
+        index.addComment(10L, 1L, "배포");
+        float score = index.search("배포", null, 1).get(0).score();
+
+        // when
+        boolean todoAdded = index.addTodo(1L, "배포", "준비");
+        boolean commentAdded = index.addComment(10L, 1L, "배포");
+
+        // then
+        assertFalse(todoAdded);
+        assertFalse(commentAdded);
+        assertEquals(score, index.search("배포", null, 1).get(0).score());
+        assertEquals(1, index.documentCount());
+    }
+
+    @Test
+    @DisplayName("마지막 결과를 넘기면 다음 순위부터 이어서 반환한다.")
+    public void search_afterCursor() {
+        // given
+        TodoInvertedIndex index = new TodoInvertedIndex();
+        for (long todoId = 1; todoId <= 5; todoId++) {
+            index.addTodo(todoId, "배포 " + todoId, "");
+        }
+
+        // when
+        List<Hit> first = index.search("배포", null, 2);
+        List<Hit> second = index.search("배포", first.get(1), 2);
+        List<Hit> last = index.search("배포", second.get(1), 2);
+
+        // then
+        assertEquals(List.of(5L, 4L), first.stream().map(Hit::todoId).toList());
+        assertEquals(List.of(3L, 2L), second.stream().map(Hit::todoId).toList());
+        assertEquals(List.of(1L), last.stream().map(Hit::todoId).toList());
+    }
+
+    @Test
+    @DisplayName("색인에 없는 토큰이 있다면 결과가 없다.")
+    public void search_unknownTerm_empty() {
+        // given
+        TodoInvertedIndex index = new TodoInvertedIndex();
+        index.addTodo(1L, "배포", "준비");
+
+        // when, then
+        assertTrue(index.search("배포 회의", null, 10).isEmpty());
+        assertTrue(index.search("  ", null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("재색인 중에 지운 댓글은 검색에서 빠지고, 다시 넣어도 들어가지 않는다.")
+    public void removeComment_success() {
+        // given
+        TodoInvertedIndex index = new TodoInvertedIndex();
+        index.trackRemovedComments();
+        index.addTodo(1L, "장보기", "우유");
+        index.addComment(10L, 1L, "욕설 댓글");
+        index.addComment(20L, 2L, "욕설");
+
+        // when
+        boolean removed = index.removeComment(10L, 1L, "욕설 댓글");
+        index.removeComment(20L, 2L, "욕설");
+        boolean readded = index.addComment(10L, 1L, "욕설 댓글");
+
+        // then
+        assertTrue(removed);
+        assertFalse(readded);
+        assertTrue(index.search("욕설", null, 10).isEmpty());
+        assertEquals(List.of(1L), index.search("우유", null, 10).stream().map(Hit::todoId).toList());
+        assertEquals(1, index.documentCount());
+    }
+
+    @Test
+    @DisplayName("재색인이 끝나면 지운 댓글의 id 를 잊는다.")
+    public void forgetRemovedComments_success() {
+        // given
+        TodoInvertedIndex index = new TodoInvertedIndex();
+        index.trackRemovedComments();
+        index.addComment(10L, 1L, "욕설 댓글");
+        index.removeComment(10L, 1L, "욕설 댓글");
+
+        // when
+        index.forgetRemovedComments();
+        boolean readded = index.addComment(10L, 1L, "욕설 댓글");
+
+        // then
+        assertTrue(readded);
+    }
+
+    @Test
+    @DisplayName("재색인 중이 아니라면 지운 댓글의 id 를 기억하지 않는다.")
+    public void removeComment_notRebuilding_noTombstone() {
+        // given
+        TodoInvertedIndex index = new TodoInvertedIndex();
+        index.addComment(10L, 1L, "욕설 댓글");
+
+        // when
+        boolean removed = index.removeComment(10L, 1L, "욕설 댓글");
+        boolean readded = index.addComment(10L, 1L, "욕설 댓글");
+
+        // then
+        assertTrue(removed);
+        assertTrue(readded);
+    }
+
+    @Test
+    @DisplayName("limit 가 커도 결과 수만큼만 반환한다.")
+    public void search_largeLimit() {
+        // given
+        TodoInvertedIndex index = new TodoInvertedIndex();
+        index.addTodo(1L, "장보기", "우유");
+
+        // when
+        List<Hit> hits = index.search("우유", null, Integer.MAX_VALUE);
+
+        // then
+        assertEquals(List.of(1L), hits.stream().map(Hit::todoId).toList());
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.data.todo.TodoMockDataUtil;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoPageCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TodoPageCache todoPageCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        todoPageCache = new TodoPageCache(3, 10, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 페이지를 다시 조회하면 쿼리하지 않고 캐시된 페이지를 반환한다.")
+    public void get_hit() {
+        // when
+        Page<TodoResponse> first = todoPageCache.get(1, 10, this::load);
+        Page<TodoResponse> second = todoPageCache.get(1, 10, this::load);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(0.5, meterRegistry.get("todo.page-cache.hit-ratio").gauge().value());
+    }
+
+    @Test
+    @DisplayName("todo 가 바뀌어 버전이 오르면 다시 쿼리한다.")
+    public void get_afterInvalidate_reloads() {
+        // given
+        todoPageCache.get(1, 10, this::load);
+
+        // when
+        todoPageCache.invalidate();
+        todoPageCache.get(1, 10, this::load);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 바꿨다면 커밋된 뒤에 버전을 올린다.")
+    public void invalidate_inTransaction_afterCommit() {
+        // given
+        todoPageCache.get(1, 10, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            todoPageCache.invalidate();
+
+            // when
+            todoPageCache.get(1, 10, this::load);
+            assertEquals(1, loads.get());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        todoPageCache.get(1, 10, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("max-page 보다 뒤의 페이지는 캐시하지 않는다.")
+    public void get_deepPage_notCached() {
+        // when
+        todoPageCache.get(4, 10, this::load);
+        todoPageCache.get(4, 10, this::load);
+
+        // then
+        assertEquals(2, loads.get());
+        assertEquals(0, todoPageCache.size());
+    }
+
+    @Test
+    @DisplayName("기본 크기가 아닌 size 로 조회한 페이지는 캐시하지 않는다.")
+    public void get_otherSize_notCached() {
+        // when
+        for (int size = 1; size <= 100; size++) {
+            todoPageCache.get(1, size, this::load);
+        }
+        todoPageCache.get(1, 20, this::load);
+
+        // then
+        assertEquals(101, loads.get());
+        assertEquals(1, todoPageCache.size());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 페이지를 동시에 조회해도 한 번만 쿼리한다.")
+    public void get_concurrentMiss_loadsOnce() throws Exception {
+        // given
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Page<TodoResponse>>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return todoPageCache.get(1, 10, () -> {
+                    sleep(100);
+                    return load();
+                });
+            }));
+        }
+
+        // when
+        start.countDown();
+
+        // then
+        for (Future<Page<TodoResponse>> result : results) {
+            assertNotNull(result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("쿼리에 실패하면 캐시하지 않고, 다음 조회는 다시 쿼리한다.")
+    public void get_loadFailure_notCached() {
+        // when
+        assertThrows(IllegalStateException.class, () -> todoPageCache.get(1, 10, () -> {
+            throw new IllegalStateException("db down");
+        }));
+        todoPageCache.get(1, 10, this::load);
+
+        // then
+        assertEquals(1, loads.get());
+    }
+
+    private Page<TodoResponse> load() {
+        loads.incrementAndGet();
+        return TodoMockDataUtil.todoResponsePage();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
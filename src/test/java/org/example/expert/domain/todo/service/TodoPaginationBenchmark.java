@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * todo 목록을 OFFSET 으로 읽을 때와 (modifiedAt, id) 커서로 읽을 때, 페이지 깊이에 따른 조회 비용 비교.
+ * H2 에 todo 10만 건을 넣고 TodoService 를 그대로 호출한다. offset 은 응답에 필요한 count 쿼리까지 포함하고,
+ * slice 는 같은 OFFSET 쿼리에서 count 대신 TodoCountCache 의 근사값을 쓴다.
+ * 같은 modifiedAt 이 여러 건 있도록 10건마다 같은 시각을 준다.
+ * <p>
+ * H2 는 테이블이 바뀌지 않았다면 직전과 같은 쿼리의 결과를 재사용하므로, 매번 page 부터 이어지는 16개 페이지를 돌아가며 읽는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoPaginationBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int SIZE = 10;
+    private static final int PAGES = 16;
+    private static final TodoSearchCondition NO_FILTER = TodoSearchCondition.none();
+
+    @Param({"1", "100", "5000", "9000"})
+    private int page;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private final String[] cursors = new String[PAGES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        todoService = context.getBean(TodoService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, token_epoch) VALUES (NEXT VALUE FOR users_seq, 'bench@example.com', 'pw', 'USER', 0)");
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'bench@example.com'", Long.class);
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp timestamp = Timestamp.valueOf(base.plusSeconds(i / 10));
+            rows.add(new Object[]{"title" + i, "contents" + i, "Sunny", userId, timestamp, timestamp});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, contents, weather, weather_pending, user_id, created_at, modified_at) " +
+                "VALUES (NEXT VALUE FOR todos_seq, ?, ?, ?, false, ?, ?, ?)", rows);
+
+        // 각 페이지를 요청할 때 클라이언트가 들고 있을 커서 (이전 페이지의 마지막 todo). 첫 페이지는 null
+        for (int i = 0; i < PAGES; i++) {
+            int offset = (page + i - 1) * SIZE;
+            if (offset > 0) {
+                Map<String, Object> last = jdbcTemplate.queryForMap(
+                        "SELECT id, modified_at FROM todos ORDER BY modified_at DESC, id DESC LIMIT 1 OFFSET ?", offset - 1);
+                cursors[i] = new TodoCursor(((Timestamp) last.get("MODIFIED_AT")).toLocalDateTime(),
+                        ((Number) last.get("ID")).longValue()).encode();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TodoResponse> offset() {
+        return todoService.getTodos(page + nextIndex(), SIZE, NO_FILTER);
+    }
+
+    @Benchmark
+    public TodoSliceResponse slice() {
+        return todoService.getTodoSlice(page + nextIndex(), SIZE, NO_FILTER);
+    }
+
+    @Benchmark
+    public TodoCursorResponse cursor() {
+        return todoService.getTodosByCursor(cursors[nextIndex()], SIZE, NO_FILTER);
+    }
+
+    private int nextIndex() {
+        return next++ & (PAGES - 1);
+    }
+}
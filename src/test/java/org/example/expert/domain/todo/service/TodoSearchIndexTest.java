@@ -0,0 +1,104 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.repository.CommentSearchSource;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSearchSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TodoSearchIndexTest {
+
+    private TodoRepository todoRepository;
+    private CommentRepository commentRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TodoSearchIndex todoSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        commentRepository = mock(CommentRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        todoSearchIndex = new TodoSearchIndex(todoRepository, commentRepository, mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("재색인하면 DB 의 todo 와 댓글로 색인을 새로 만든다.")
+    public void rebuild_loadsTodosAndComments() {
+        // given
+        todoSearchIndex.indexTodo(99L, "삭제된 배포", "");
+        given(todoRepository.streamSearchSources()).willReturn(Stream.of(todo(1L, "배포 준비", "체크리스트")));
+        given(commentRepository.streamSearchSources()).willReturn(Stream.of(comment(10L, 1L, "회의 후 배포")));
+
+        // when
+        todoSearchIndex.rebuild();
+
+        // then
+        assertEquals(List.of(1L), todoIds(todoSearchIndex.search("배포", null, 10)));
+        assertEquals(List.of(1L), todoIds(todoSearchIndex.search("회의", null, 10)));
+        assertEquals(1.0, meterRegistry.get("todo.search.documents").gauge().value());
+    }
+
+    @Test
+    @DisplayName("재색인 중에 저장된 todo, 댓글도 새 색인에 들어간다.")
+    public void rebuild_keepsConcurrentWrites() {
+        // given
+        given(todoRepository.streamSearchSources()).willAnswer(invocation -> {
+            todoSearchIndex.indexTodo(2L, "재색인 중 저장", "");
+            return Stream.of(todo(1L, "기존 todo", ""));
+        });
+        given(commentRepository.streamSearchSources()).willAnswer(invocation -> {
+            todoSearchIndex.indexComment(20L, 1L, "재색인 중 댓글");
+            return Stream.empty();
+        });
+
+        // when
+        todoSearchIndex.rebuild();
+
+        // then
+        assertEquals(List.of(2L), todoIds(todoSearchIndex.search("저장", null, 10)));
+        assertEquals(List.of(1L), todoIds(todoSearchIndex.search("댓글", null, 10)));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 저장한 todo 는 바로 검색된다.")
+    public void indexTodo_withoutTransaction_searchable() {
+        // when
+        todoSearchIndex.indexTodo(1L, "배포", "");
+
+        // then
+        assertEquals(List.of(1L), todoIds(todoSearchIndex.search("배포", null, 10)));
+        assertTrue(todoSearchIndex.search("회의", null, 10).isEmpty());
+    }
+
+    private static List<Long> todoIds(List<TodoSearchIndex.Hit> hits) {
+        return hits.stream().map(TodoSearchIndex.Hit::todoId).toList();
+    }
+
+    private static TodoSearchSource todo(long id, String title, String contents) {
+        return new TodoSearchSource() {
+            public Long getId() { return id; }
+            public String getTitle() { return title; }
+            public String getContents() { return contents; }
+        };
+    }
+
+    private static CommentSearchSource comment(long id, long todoId, String contents) {
+        return new CommentSearchSource() {
+            public Long getId() { return id; }
+            public Long getTodoId() { return todoId; }
+            public String getContents() { return contents; }
+        };
+    }
+}
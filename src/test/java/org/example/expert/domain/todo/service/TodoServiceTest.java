@@ -6,9 +6,14 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.data.todo.TodoMockDataUtil;
 import org.example.expert.domain.data.user.UserMockDataUtil;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoSearchCursor;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -21,13 +26,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class TodoServiceTest {
@@ -37,6 +52,15 @@ class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private TodoCountCache todoCountCache;
+
+    @Mock
+    private TodoPageCache todoPageCache;
+
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -78,6 +102,32 @@ class TodoServiceTest {
 
             // then
             assertNotNull(todoSaveResponse);
+            verify(todoCountCache).add(1);
+            verify(todoPageCache).invalidate();
+            verify(todoSearchIndex).indexTodo(todo.getId(), todo.getTitle(), todo.getContents());
+        }
+
+        @Test
+        @DisplayName("비동기 모드에서는 날씨 조회 없이 todo 를 먼저 등록한다")
+        void saveTodo_asyncWeather_success() {
+            // given
+            AuthUser authUser = UserMockDataUtil.authUser();
+            TodoSaveRequest todoSaveRequest = TodoMockDataUtil.todoSaveRequest();
+            ReflectionTestUtils.setField(todoService, "asyncWeather", true);
+
+            given(todoRepository.save(any())).willAnswer(invocation -> {
+                Todo saved = invocation.getArgument(0);
+                ReflectionTestUtils.setField(saved, "id", 1L);
+                return saved;
+            });
+
+            // when
+            TodoSaveResponse todoSaveResponse = todoService.saveTodo(authUser, todoSaveRequest);
+
+            // then
+            assertNull(todoSaveResponse.getWeather());
+            assertTrue(todoSaveResponse.isWeatherPending());
+            verify(weatherClient, never()).getTodayWeather();
         }
     }
 
@@ -92,16 +142,205 @@ class TodoServiceTest {
             int size = 10;
 
             Pageable pageable = PageRequest.of(page - 1, size);
-            Page<Todo> todo = TodoMockDataUtil.todoPage();
+            Page<TodoResponse> todo = TodoMockDataUtil.todoResponsePage();
 
             given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(todo);
+            given(todoPageCache.get(eq(page), eq(size), any())).willAnswer(invocation ->
+                    invocation.<Supplier<Page<TodoResponse>>>getArgument(2).get());
 
             // when
-            Page<TodoResponse> todoResponsePage = todoService.getTodos(page, size);
+            Page<TodoResponse> todoResponsePage = todoService.getTodos(page, size, TodoSearchCondition.none());
 
             // then
             assertEquals(10, todoResponsePage.getContent().size());
         }
+
+        @Test
+        @DisplayName("필터가 있다면 캐시 없이 조건에 맞는 todo 만 조회한다.")
+        void getTodos_filtered_success() {
+            // given
+            TodoSearchCondition condition = new TodoSearchCondition("Sunny", 1L, null, null);
+            List<TodoResponse> content = List.of(TodoMockDataUtil.todoResponse(), TodoMockDataUtil.todoResponse());
+
+            given(todoRepository.findFiltered(condition, null, 0L, 2)).willReturn(content);
+            given(todoRepository.countFiltered(condition)).willReturn(12L);
+
+            // when
+            Page<TodoResponse> todoResponsePage = todoService.getTodos(1, 2, condition);
+
+            // then
+            assertEquals(2, todoResponsePage.getContent().size());
+            assertEquals(12L, todoResponsePage.getTotalElements());
+            verify(todoPageCache, never()).get(anyInt(), anyInt(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("todo slice 목록 조회 테스트 케이스")
+    class GetTodoSlice {
+        @Test
+        @DisplayName("count 쿼리 없이 다음 페이지 여부와 근사 전체 건수를 반환한다.")
+        void getTodoSlice_success() {
+            // given
+            Pageable pageable = PageRequest.of(0, 2);
+            List<TodoResponse> todos = List.of(TodoMockDataUtil.todoResponse(), TodoMockDataUtil.todoResponse());
+
+            given(todoRepository.findSliceByOrderByModifiedAtDesc(pageable)).willReturn(new SliceImpl<>(todos, pageable, true));
+            given(todoCountCache.get()).willReturn(42L);
+
+            // when
+            TodoSliceResponse response = todoService.getTodoSlice(1, 2, TodoSearchCondition.none());
+
+            // then
+            assertEquals(2, response.getContent().size());
+            assertTrue(response.isHasNext());
+            assertEquals(42L, response.getApproximateTotalElements());
+            verify(todoRepository, never()).findAllByOrderByModifiedAtDesc(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("todo 커서 목록 조회 테스트 케이스")
+    class GetTodosByCursor {
+        @Test
+        @DisplayName("다음 페이지가 있다면 마지막 todo 의 커서를 함께 반환한다.")
+        void getTodosByCursor_firstPage_hasNext() {
+            // given
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 10, 1, 12, 0, 0, 123456000);
+            List<TodoResponse> todos = List.of(todoResponse(3L, modifiedAt), todoResponse(2L, modifiedAt), todoResponse(1L, modifiedAt));
+
+            given(todoRepository.findFirstPage(PageRequest.of(0, 3))).willReturn(todos);
+
+            // when
+            TodoCursorResponse response = todoService.getTodosByCursor(null, 2, TodoSearchCondition.none());
+
+            // then
+            assertEquals(2, response.getContent().size());
+            TodoCursor nextCursor = TodoCursor.decode(response.getNextCursor());
+            assertEquals(modifiedAt, nextCursor.getModifiedAt());
+            assertEquals(2L, nextCursor.getId());
+        }
+
+        @Test
+        @DisplayName("커서 다음부터 조회하고, 마지막 페이지라면 커서가 없다.")
+        void getTodosByCursor_lastPage() {
+            // given
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 10, 1, 12, 0);
+            String cursor = new TodoCursor(modifiedAt, 2L).encode();
+
+            given(todoRepository.findPageAfter(modifiedAt, 2L, PageRequest.of(0, 3)))
+                    .willReturn(List.of(todoResponse(1L, modifiedAt)));
+
+            // when
+            TodoCursorResponse response = todoService.getTodosByCursor(cursor, 2, TodoSearchCondition.none());
+
+            // then
+            assertEquals(1, response.getContent().size());
+            assertNull(response.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("커서가 유효하지 않아 조회에 실패한다.")
+        void getTodosByCursor_invalidCursor_failure() {
+            // when
+            InvalidRequestException exception =
+                    assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("not-a-cursor", 10, TodoSearchCondition.none()));
+
+            // then
+            assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("size 가 범위를 벗어나면 쿼리하지 않고 실패한다.")
+        void getTodosByCursor_outOfRangeSize_failure() {
+            for (int size : new int[]{0, -1, TodoService.MAX_PAGE_SIZE + 1, Integer.MAX_VALUE}) {
+                // when
+                InvalidRequestException exception =
+                        assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor(null, size, TodoSearchCondition.none()));
+
+                // then
+                assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+            }
+            verifyNoInteractions(todoRepository);
+        }
+
+        private TodoResponse todoResponse(long todoId, LocalDateTime modifiedAt) {
+            return new TodoResponse(todoId, "title", "contents", "weather", false, 0, 1, 1L, "email@example.com", modifiedAt, modifiedAt);
+        }
+    }
+
+    @Nested
+    @DisplayName("todo 검색 테스트 케이스")
+    class SearchTodos {
+        @Test
+        @DisplayName("검색어가 비어 있어 검색에 실패한다.")
+        void searchTodos_blankQuery_failure() {
+            // when
+            InvalidRequestException exception =
+                    assertThrows(InvalidRequestException.class, () -> todoService.searchTodos(" ", null, 10));
+
+            // then
+            assertEquals("검색어를 입력해 주세요.", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("size 가 범위를 벗어나면 색인을 찾지 않고 실패한다.")
+        void searchTodos_outOfRangeSize_failure() {
+            for (int size : new int[]{0, -1, TodoService.MAX_PAGE_SIZE + 1, Integer.MAX_VALUE}) {
+                // when
+                InvalidRequestException exception =
+                        assertThrows(InvalidRequestException.class, () -> todoService.searchTodos("우유", null, size));
+
+                // then
+                assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+            }
+            verifyNoInteractions(todoSearchIndex);
+        }
+
+        @Test
+        @DisplayName("색인의 순위대로 todo 를 반환하고, 다음 페이지가 있다면 마지막 결과의 커서를 준다.")
+        void searchTodos_success() {
+            // given
+            List<TodoSearchIndex.Hit> hits = List.of(
+                    new TodoSearchIndex.Hit(3L, 2.5f),
+                    new TodoSearchIndex.Hit(1L, 1.5f),
+                    new TodoSearchIndex.Hit(2L, 0.5f)
+            );
+            LocalDateTime now = LocalDateTime.now();
+
+            given(todoSearchIndex.search("회의", null, 3)).willReturn(hits);
+            given(todoRepository.findResponsesByIdIn(List.of(3L, 1L)))
+                    .willReturn(List.of(todoResponse(1L, now), todoResponse(3L, now)));
+
+            // when
+            TodoCursorResponse response = todoService.searchTodos("회의", null, 2);
+
+            // then
+            assertEquals(List.of(3L, 1L), response.getContent().stream().map(TodoResponse::getId).toList());
+            TodoSearchCursor cursor = TodoSearchCursor.decode(response.getNextCursor());
+            assertEquals(1.5f, cursor.getScore());
+            assertEquals(1L, cursor.getId());
+        }
+
+        @Test
+        @DisplayName("커서가 있다면 커서 다음 순위부터 검색한다.")
+        void searchTodos_withCursor_success() {
+            // given
+            String cursor = new TodoSearchCursor(1.5f, 1L).encode();
+
+            given(todoSearchIndex.search("회의", new TodoSearchIndex.Hit(1L, 1.5f), 11)).willReturn(List.of());
+
+            // when
+            TodoCursorResponse response = todoService.searchTodos("회의", cursor, 10);
+
+            // then
+            assertTrue(response.getContent().isEmpty());
+            assertNull(response.getNextCursor());
+        }
+
+        private TodoResponse todoResponse(long todoId, LocalDateTime modifiedAt) {
+            return new TodoResponse(todoId, "title", "contents", "weather", false, 0, 1, 1L, "email@example.com", modifiedAt, modifiedAt);
+        }
     }
 
     @Nested
@@ -0,0 +1,57 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoVersionServiceTest {
+    @InjectMocks
+    private TodoVersionService todoVersionService;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Nested
+    @DisplayName("ETag 조회 테스트 케이스")
+    public class GetETag {
+        @Test
+        @DisplayName("todo 버전과 리소스 이름으로 ETag 를 만든다.")
+        public void getETag_success() {
+            // given
+            long todoId = 1L;
+            given(todoRepository.findVersionById(todoId)).willReturn(Optional.of(3L));
+
+            // when
+            String eTag = todoVersionService.getETag(todoId, "comments");
+
+            // then
+            assertEquals("\"comments-1-3\"", eTag);
+        }
+
+        @Test
+        @DisplayName("todo 가 없으면 null 을 반환한다.")
+        public void getETag_notFoundTodo() {
+            // given
+            long todoId = 1L;
+            given(todoRepository.findVersionById(todoId)).willReturn(Optional.empty());
+
+            // when
+            String eTag = todoVersionService.getETag(todoId, "todo");
+
+            // then
+            assertNull(eTag);
+        }
+    }
+}
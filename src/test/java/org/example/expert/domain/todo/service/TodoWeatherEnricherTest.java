@@ -0,0 +1,134 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.repository.TodoPendingWeather;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class TodoWeatherEnricherTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 2);
+    private static final LocalDate YESTERDAY = TODAY.minusDays(1);
+
+    private TodoRepository todoRepository;
+    private WeatherClient weatherClient;
+    private TodoPageCache todoPageCache;
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @BeforeEach
+    public void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        weatherClient = mock(WeatherClient.class);
+        todoPageCache = mock(TodoPageCache.class);
+        todoWeatherEnricher = new TodoWeatherEnricher(todoRepository, weatherClient, todoPageCache, 3);
+    }
+
+    @Test
+    @DisplayName("대기 중인 todo 를 생성일별로 묶어 날짜마다 한 번씩 날씨를 채운다.")
+    public void enrichBatch_groupedByDate() {
+        // given
+        List<TodoPendingWeather> pending = List.of(pending(1L, YESTERDAY), pending(2L, TODAY), pending(3L, TODAY));
+        given(weatherClient.getWeather(YESTERDAY)).willReturn("Rainy");
+        given(weatherClient.getWeather(TODAY)).willReturn("Sunny");
+        given(todoRepository.fillWeather(List.of(1L), "Rainy")).willReturn(1);
+        given(todoRepository.fillWeather(List.of(2L, 3L), "Sunny")).willReturn(2);
+
+        // when
+        int result = todoWeatherEnricher.enrichBatch(pending);
+
+        // then
+        assertEquals(3, result);
+        verify(weatherClient, times(1)).getWeather(TODAY);
+        verify(todoRepository).fillWeather(List.of(2L, 3L), "Sunny");
+        verify(todoPageCache).invalidate();
+    }
+
+    @Test
+    @DisplayName("날씨 조회에 실패한 날짜의 todo 는 그대로 두고 다음에 다시 채운다.")
+    public void enrichBatch_weatherFailure_keepsPending() {
+        // given
+        List<TodoPendingWeather> pending = List.of(pending(1L, YESTERDAY), pending(2L, TODAY));
+        given(weatherClient.getWeather(YESTERDAY)).willThrow(new ServerException("날씨 데이터가 없습니다."));
+        given(weatherClient.getWeather(TODAY)).willReturn("Sunny");
+        given(todoRepository.fillWeather(List.of(2L), "Sunny")).willReturn(1);
+
+        // when
+        int result = todoWeatherEnricher.enrichBatch(pending);
+
+        // then
+        assertEquals(1, result);
+        verify(todoRepository, never()).fillWeather(List.of(1L), "Rainy");
+        verify(todoRepository, times(1)).fillWeather(anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차 있는 동안 계속 채운다.")
+    public void enrichPendingTodos_drainsFullBatches() {
+        // given
+        given(todoRepository.findPendingWeather(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(pending(1L, TODAY), pending(2L, TODAY), pending(3L, TODAY)));
+        given(todoRepository.findPendingWeather(eq(3L), any(Pageable.class)))
+                .willReturn(List.of(pending(4L, TODAY)));
+        given(weatherClient.getWeather(TODAY)).willReturn("Sunny");
+        given(todoRepository.fillWeather(anyList(), anyString()))
+                .willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        todoWeatherEnricher.enrichPendingTodos();
+
+        // then
+        verify(todoRepository, times(2)).findPendingWeather(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 날짜의 todo 가 배치를 가득 채워도 그 뒤의 todo 를 채운다.")
+    public void enrichPendingTodos_failingBatch_movesOn() {
+        // given
+        given(todoRepository.findPendingWeather(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(pending(1L, YESTERDAY), pending(2L, YESTERDAY), pending(3L, YESTERDAY)));
+        given(todoRepository.findPendingWeather(eq(3L), any(Pageable.class)))
+                .willReturn(List.of(pending(4L, TODAY), pending(5L, TODAY)));
+        given(weatherClient.getWeather(YESTERDAY)).willThrow(new ServerException("날씨 데이터가 없습니다."));
+        given(weatherClient.getWeather(TODAY)).willReturn("Sunny");
+        given(todoRepository.fillWeather(List.of(4L, 5L), "Sunny")).willReturn(2);
+
+        // when
+        todoWeatherEnricher.enrichPendingTodos();
+
+        // then
+        verify(todoRepository).fillWeather(List.of(4L, 5L), "Sunny");
+        verify(todoRepository, times(1)).fillWeather(anyList(), anyString());
+        verify(todoPageCache).invalidate();
+    }
+
+    private static TodoPendingWeather pending(long id, LocalDate createdDate) {
+        return new TodoPendingWeather() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdDate.atTime(9, 0);
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.expert.domain.user.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailBloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("추가한 이메일은 항상 있을 수 있다고 답한다.")
+    public void mightContain_noFalseNegative() {
+        // given
+        EmailBloomFilter filter = new EmailBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // when & then
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    @DisplayName("예상 건수만큼 채웠을 때 오탐률이 목표치 근처에 머문다.")
+    public void mightContain_falsePositiveRate() {
+        // given
+        EmailBloomFilter filter = new EmailBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            if (filter.mightContain("new" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        double measured = (double) falsePositives / EXPECTED_INSERTIONS;
+        assertTrue(measured < FALSE_POSITIVE_RATE * 1.5, "측정된 오탐률: " + measured);
+        assertEquals(FALSE_POSITIVE_RATE, filter.estimatedFalsePositiveRate(), FALSE_POSITIVE_RATE * 0.5);
+    }
+
+    @Test
+    @DisplayName("100만 건, 오탐률 1% 기준으로 약 1.2MB 와 해시 7개를 쓴다.")
+    public void byteSize_and_hashCount() {
+        // given & when
+        EmailBloomFilter filter = new EmailBloomFilter(1_000_000, FALSE_POSITIVE_RATE);
+
+        // then
+        assertEquals(1_198_136, filter.byteSize());
+        assertEquals(7, filter.hashCount());
+        assertEquals(0.0, filter.estimatedFalsePositiveRate());
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.config.TokenEpochTable;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.data.user.UserMockDataUtil;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
@@ -20,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class UserAdminServiceTest {
@@ -27,6 +29,9 @@ class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TokenEpochTable tokenEpochTable;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -89,6 +94,8 @@ class UserAdminServiceTest {
 
             // then
             assertEquals(UserRole.ADMIN, user.getUserRole());
+            assertEquals(1, user.getTokenEpoch());
+            then(tokenEpochTable).should().updateAfterCommit(user.getId(), 1);
         }
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package org.example.expert.domain.user.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashExecutor;
+import org.example.expert.config.TokenEpochTable;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.data.user.UserMockDataUtil;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
@@ -21,6 +24,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -28,8 +32,12 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TokenEpochTable tokenEpochTable;
+
     @Spy
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashExecutor passwordHashExecutor =
+            new PasswordHashExecutor(new PasswordEncoder(), new SimpleMeterRegistry(), 1, 4, 5000L);
 
     @InjectMocks
     private UserService userService;
@@ -151,7 +159,7 @@ class UserServiceTest {
             long userId = 1L;
             UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("Password1", "Password1");
 
-            User user = UserMockDataUtil.userWithPassword(passwordEncoder.encode("Password1"));
+            User user = UserMockDataUtil.userWithPassword(passwordHashExecutor.encode("Password1"));
 
             given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
 
@@ -172,7 +180,7 @@ class UserServiceTest {
             long userId = 1L;
             UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("wrongPassword", "Password1");
 
-            User user = UserMockDataUtil.userWithPassword(passwordEncoder.encode("password11"));
+            User user = UserMockDataUtil.userWithPassword(passwordHashExecutor.encode("password11"));
 
             given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
 
@@ -193,7 +201,7 @@ class UserServiceTest {
             long userId = 1L;
             UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("password", "Password1");
 
-            User user = UserMockDataUtil.userWithPassword(passwordEncoder.encode("password"));
+            User user = UserMockDataUtil.userWithPassword(passwordHashExecutor.encode("password"));
 
             given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
 
@@ -201,7 +209,9 @@ class UserServiceTest {
             userService.changePassword(userId, userChangePasswordRequest);
 
             // then
-            assertTrue(passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword()));
+            assertTrue(passwordHashExecutor.matches(userChangePasswordRequest.getNewPassword(), user.getPassword()));
+            assertEquals(1, user.getTokenEpoch());
+            then(tokenEpochTable).should().updateAfterCommit(user.getId(), 1);
         }
     }
 }
\ No newline at end of file